@@ -8,7 +8,7 @@ import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.api.request.ReissueTokenRequestDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.service.AuthService;
-import server.poptato.auth.application.service.JwtService;
+import server.poptato.global.annotation.AuthUser;
 import server.poptato.global.dto.TokenPair;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
@@ -19,7 +19,6 @@ import server.poptato.global.response.status.SuccessStatus;
 public class AuthController {
 
     private final AuthService authService;
-    private final JwtService jwtService;
 
     /**
      * 로그인 API.
@@ -45,15 +44,15 @@ public class AuthController {
      * Authorization 헤더에서 추출된 사용자 ID를 기반으로 로그아웃 처리합니다.
      * 로그아웃 시 해당 사용자의 리프레시 토큰이 삭제됩니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @return 성공 여부를 나타내는 응답 객체
      */
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<SuccessStatus>> logout(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestBody FCMTokenRequestDto fcmTokenRequestDto
             ) {
-        authService.logout(jwtService.extractUserIdFromToken(authorizationHeader), fcmTokenRequestDto);
+        authService.logout(userId, fcmTokenRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.poptato.auth.api.request.FCMTokenRequestDto;
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.api.request.ReissueTokenRequestDto;
@@ -37,42 +38,57 @@ public class AuthService {
     private final UserRepository userRepository;
     private final MobileRepository mobileRepository;
     private final DistributedLockFacade distributedLockFacade;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 소셜 로그인 처리 메서드.
-     * 소셜 인증 정보를 기반으로 로그인 처리를 수행하며, 신규 유저일 경우 데이터를 저장합니다.
-     * 또한, FCM 토큰을 저장하거나 업데이트합니다.
+     * 외부 호출과 DB 트랜잭션이 겹치지 않도록 단계를 나누어 처리합니다.
+     * 1. 소셜 인증 정보 조회 (Kakao/Apple 호출, 트랜잭션 밖)
+     * 2. 소셜 ID 락 안에서 유저와 FCM 토큰을 짧은 트랜잭션으로 저장 (신규 유저일 경우 생성)
+     * 3. 커밋 후 토큰 페어 발급
      *
      * @param request 사용자의 로그인 요청 정보 (소셜 타입, 액세스 토큰 등)
      * @return 로그인 결과로 생성된 액세스 토큰, 리프레시 토큰, 유저 ID, 신규 유저 여부
      */
-    @Transactional
     public LoginResponseDto login(final LoginRequestDto request) {
         SocialService socialService = socialServiceProvider.getSocialService(request.socialType());
         SocialUserInfo userInfo = socialService.getUserData(request);
 
+        LoginUser loginUser;
         try {
-            return distributedLockFacade.executeWithLock(userInfo.socialId(), () -> {
-                Optional<User> findUser = userRepository.findBySocialId(userInfo.socialId());
-                if (findUser.isEmpty()) {
-                    User newUser = saveNewData(request, userInfo);
-                    saveFcmToken(newUser.getId(), request);
-
-                    long userCount = userRepository.count();
-                    eventPublisher.publishEvent(CreateUserEvent.from(userCount, newUser, request.mobileType().toString()));
-
-                    return createLoginResponse(newUser.getId(), true);
-                }
-                updateImage(findUser.get(), userInfo);
-                saveFcmToken(findUser.get().getId(), request);
-                return createLoginResponse(findUser.get().getId(), false);
-            });
+            loginUser = distributedLockFacade.executeWithLock(userInfo.socialId(), () ->
+                    transactionTemplate.execute(status -> saveLoginUser(request, userInfo)));
         } catch (CustomException e) {
             if (e.getErrorCode().equals(LockErrorStatus._LOCK_ACQUISITION_FAILED)) {
                 throw new CustomException(AuthErrorStatus._SIGNUP_IN_PROGRESS);
             }
             throw e;
         }
+        return createLoginResponse(loginUser.userId(), loginUser.isNewUser());
+    }
+
+    /**
+     * 로그인 유저 저장 메서드.
+     * 신규 유저이면 유저를 생성하고, 기존 유저이면 프로필 이미지를 갱신한 뒤 FCM 토큰을 저장합니다.
+     *
+     * @param request 로그인 요청 정보
+     * @param userInfo 소셜 유저 정보
+     * @return 유저 ID와 신규 유저 여부
+     */
+    private LoginUser saveLoginUser(LoginRequestDto request, SocialUserInfo userInfo) {
+        Optional<User> findUser = userRepository.findBySocialId(userInfo.socialId());
+        if (findUser.isEmpty()) {
+            User newUser = saveNewData(request, userInfo);
+            saveFcmToken(newUser.getId(), request);
+
+            long userCount = userRepository.count();
+            eventPublisher.publishEvent(CreateUserEvent.from(userCount, newUser, request.mobileType().toString()));
+
+            return new LoginUser(newUser.getId(), true);
+        }
+        updateImage(findUser.get(), userInfo);
+        saveFcmToken(findUser.get().getId(), request);
+        return new LoginUser(findUser.get().getId(), false);
     }
 
     /**
@@ -223,4 +239,7 @@ public class AuthService {
         }
         throw new CustomException(MobileErrorStatus._NOT_EXIST_FCM_TOKEN);
     }
+
+    private record LoginUser(Long userId, boolean isNewUser) {
+    }
 }
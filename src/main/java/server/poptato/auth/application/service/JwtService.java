@@ -1,5 +1,8 @@
 package server.poptato.auth.application.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
@@ -16,8 +19,11 @@ import server.poptato.global.exception.CustomException;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.concurrent.TimeUnit;
 
 
@@ -35,17 +41,50 @@ public class JwtService {
     public static final long DAYS_IN_MILLISECONDS = 24 * 60 * 60 * 1000L;
     public static final int ACCESS_TOKEN_EXPIRATION_MINUTE = 20;
     public static final int REFRESH_TOKEN_EXPIRATION_DAYS = 14;
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int VERIFIED_TOKEN_CACHE_SIZE = 10_000;
 
     private final StringRedisTemplate stringRedisTemplate;
 
+    private Key signingKey;
+    private JwtParser jwtParser;
+
     /**
-     * JWT 비밀키를 Base64로 인코딩합니다.
+     * 검증된 액세스 토큰의 SHA-256 해시 → (사용자 ID, 만료 시각).
+     * 각 항목은 토큰의 만료 시각에 함께 만료되므로, 캐시 적중 시 서명 검증을 다시 하지 않아도 만료 토큰이 통과하지 않습니다.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return expireAfterCreate(key, value, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    /**
+     * JWT 비밀키를 Base64로 인코딩하고, 서명 키와 파서를 한 번만 생성합니다.
      * 이 메서드는 클래스 초기화 시 실행됩니다.
      */
     @PostConstruct
     protected void init() {
         jwtSecret = Base64.getEncoder()
                 .encodeToString(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
     /**
@@ -187,7 +226,7 @@ public class JwtService {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -224,37 +263,54 @@ public class JwtService {
      * @return 토큰의 클레임 정보
      */
     private Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * JWT 서명에 사용할 키를 반환합니다.
-     *
-     * @return 서명 키
-     */
-    private Key getSigningKey() {
-        final byte[] keyBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     /**
      * Authorization 헤더에서 사용자 ID를 추출합니다.
-     * JWT 토큰을 검증하고, 유효한 경우 토큰에서 사용자 ID를 가져옵니다.
+     * 최근 검증된 토큰이면 캐시에서 바로 반환하고, 그렇지 않으면 토큰을 한 번만 파싱하여 검증과 사용자 ID 추출을 함께 처리합니다.
      *
      * @param authorization 요청 헤더의 Authorization (Bearer 토큰)
      * @return 토큰에서 추출된 사용자 ID
      * @throws CustomException 토큰이 없거나 유효하지 않은 경우 예외 발생
      */
     public Long extractUserIdFromToken(String authorization) {
-        if (authorization == null || !authorization.startsWith("Bearer ")) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
             throw new CustomException(AuthErrorStatus._NOT_EXIST_ACCESS_TOKEN);
         }
-        String token = authorization.substring("Bearer ".length());
-        verifyAccessToken(token);
-        return Long.parseLong(getUserIdInToken(token));
+        String token = authorization.substring(BEARER_PREFIX.length());
+        String tokenHash = hash(token);
+
+        VerifiedToken verified = verifiedTokens.getIfPresent(tokenHash);
+        if (verified != null && verified.expiresAtMillis() > System.currentTimeMillis()) {
+            return verified.userId();
+        }
+
+        final Claims claims;
+        try {
+            claims = getBody(token);
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(AuthErrorStatus._EXPIRED_ACCESS_TOKEN);
+        } catch (UnsupportedJwtException | SignatureException | MalformedJwtException e) {
+            throw new CustomException(AuthErrorStatus._INVALID_ACCESS_TOKEN);
+        }
+
+        Long userId = Long.parseLong((String) claims.get(USER_ID));
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(tokenHash, new VerifiedToken(userId, claims.getExpiration().getTime()));
+        }
+        return userId;
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(Long userId, long expiresAtMillis) {
     }
 }
@@ -1,12 +1,17 @@
 package server.poptato.category.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.poptato.category.api.request.CategoryCreateUpdateRequestDto;
 import server.poptato.category.api.request.CategoryDragAndDropRequestDto;
+import server.poptato.category.application.event.CategoryChangeEvent;
 import server.poptato.category.application.response.CategoryCreateResponseDto;
 import server.poptato.category.application.response.CategoryListResponseDto;
 import server.poptato.category.application.response.CategoryResponseDto;
@@ -14,19 +19,24 @@ import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.repository.EmojiRepository;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.emoji.application.service.EmojiCatalogProvider;
 import server.poptato.emoji.validator.EmojiValidator;
 import server.poptato.global.exception.CustomException;
-import server.poptato.global.util.FileUtil;
-import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.application.TodoBatchService;
+import server.poptato.todo.application.event.CalendarChangeEvent;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.validator.UserValidator;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -35,8 +45,10 @@ public class CategoryService {
     private final UserValidator userValidator;
     private final EmojiValidator emojiValidator;
     private final CategoryValidator categoryValidator;
-    private final EmojiRepository emojiRepository;
-    private final TodoRepository todoRepository;
+    private final EmojiCatalogProvider emojiCatalogProvider;
+    private final TodoBatchService todoBatchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Long ALL_CATEGORY = -1L;
     private static final Long BOOKMARK_CATEGORY = 0L;
@@ -62,6 +74,7 @@ public class CategoryService {
                         .name(request.name())
                         .build()
         );
+        eventPublisher.publishEvent(CategoryChangeEvent.of(userId));
         return CategoryCreateResponseDto.of(newCategory.getId());
     }
 
@@ -87,13 +100,9 @@ public class CategoryService {
      * @return 변환된 카테고리 목록 DTO
      */
     private CategoryListResponseDto convertToCategoryListDto(Page<Category> categories, MobileType mobileType) {
-        String extension = mobileType.getImageUrlExtension();
+        EmojiCatalog emojiCatalog = emojiCatalogProvider.get();
         List<CategoryResponseDto> categoryResponseDtoList = categories.stream()
-                .map(category -> {
-                    String imageUrl = emojiRepository.findImageUrlById(category.getEmojiId());
-                    String modifiedImageUrl = FileUtil.changeFileExtension(imageUrl, extension);
-                    return CategoryResponseDto.of(category, modifiedImageUrl);
-                })
+                .map(category -> CategoryResponseDto.of(category, emojiCatalog.imageUrl(category.getEmojiId(), mobileType)))
                 .collect(Collectors.toList());
 
         return new CategoryListResponseDto(categoryResponseDtoList, categories.getTotalPages());
@@ -112,23 +121,33 @@ public class CategoryService {
         Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
         category.update(updateRequestDto);
         categoryRepository.save(category);
+        eventPublisher.publishEvent(CategoryChangeEvent.of(userId));
     }
 
     /**
      * 특정 카테고리를 삭제합니다.
+     * 카테고리의 할 일과 딸린 데이터를 묶음 단위 트랜잭션으로 먼저 삭제한 뒤, 카테고리를 삭제합니다.
      *
      * @param userId 사용자 ID
      * @param categoryId 삭제할 카테고리 ID
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteCategory(Long userId, Long categoryId) {
         userValidator.checkIsExistUser(userId);
-        Category category = categoryValidator.validateAndReturnCategory(userId, categoryId);
-        categoryRepository.delete(category);
-        todoRepository.deleteAllByCategoryId(categoryId);
+        categoryValidator.validateCategory(userId, categoryId);
+
+        long deletedTodoCount = todoBatchService.deleteTodosByCategoryId(categoryId);
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryRepository.deleteById(categoryId);
+            eventPublisher.publishEvent(CalendarChangeEvent.reset(userId));
+            eventPublisher.publishEvent(CategoryChangeEvent.of(userId));
+        });
+        log.info("[Category] categoryId={} 삭제 완료, 삭제한 할 일 수={}", categoryId, deletedTodoCount);
     }
 
     /**
      * 카테고리 순서를 드래그 앤 드롭 방식으로 변경합니다.
+     * 대상 카테고리를 한 번에 조회하여 검증하고, 바뀐 순서를 하나의 UPDATE 문으로 반영합니다.
      *
      * @param userId 사용자 ID
      * @param request 카테고리 순서 변경 요청 데이터
@@ -136,22 +155,28 @@ public class CategoryService {
     public void dragAndDrop(Long userId, CategoryDragAndDropRequestDto request) {
         userValidator.checkIsExistUser(userId);
         List<Category> categories = getCategoriesByIds(request.categoryIds());
-        checkIsValidToDragAndDrop(userId, categories, request);
-        reassignCategoryOrder(categories, request.categoryIds());
+        checkIsValidToDragAndDrop(userId, categories);
+        reassignCategoryOrder(categories);
+        eventPublisher.publishEvent(CategoryChangeEvent.of(userId));
     }
 
     /**
-     * ID 목록을 기반으로 카테고리를 조회합니다.
+     * ID 목록을 기반으로 카테고리를 한 번에 조회하고, 요청 순서대로 정렬하여 반환합니다.
      *
      * @param categoryIds 조회할 카테고리 ID 목록
-     * @return 조회된 카테고리 목록
+     * @return 요청 순서대로 정렬된 카테고리 목록
      * @throws CustomException 카테고리가 존재하지 않을 경우
      */
     private List<Category> getCategoriesByIds(List<Long> categoryIds) {
+        Map<Long, Category> categoriesById = categoryRepository.findAllById(categoryIds).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
         List<Category> categories = new ArrayList<>();
         for (Long categoryId : categoryIds) {
-            Category category = categoryRepository.findById(categoryId)
-                    .orElseThrow(() -> new CustomException(CategoryErrorStatus._CATEGORY_NOT_EXIST));
+            Category category = categoriesById.get(categoryId);
+            if (category == null) {
+                throw new CustomException(CategoryErrorStatus._CATEGORY_NOT_EXIST);
+            }
             categories.add(category);
         }
         return categories;
@@ -162,13 +187,12 @@ public class CategoryService {
      *
      * @param userId 사용자 ID
      * @param categories 대상 카테고리 목록
-     * @param request 요청 데이터
      * @throws CustomException 유효하지 않은 카테고리 순서 변경일 경우
      */
-    private void checkIsValidToDragAndDrop(Long userId, List<Category> categories, CategoryDragAndDropRequestDto request) {
+    private void checkIsValidToDragAndDrop(Long userId, List<Category> categories) {
         for (Category category : categories) {
-            categoryValidator.validateCategory(userId, category.getId());
-            if (category.getId() == ALL_CATEGORY || category.getId() == BOOKMARK_CATEGORY) {
+            categoryValidator.validateCategoryOwner(userId, category);
+            if (Objects.equals(category.getId(), ALL_CATEGORY) || Objects.equals(category.getId(), BOOKMARK_CATEGORY)) {
                 throw new CustomException(CategoryErrorStatus._INVALID_DRAG_AND_DROP_CATEGORY);
             }
         }
@@ -176,31 +200,23 @@ public class CategoryService {
 
     /**
      * 카테고리 순서를 재할당합니다.
+     * 기존 순서 값을 오름차순으로 정렬하여 요청 순서대로 배정하며, 값이 바뀐 카테고리만 변경합니다.
      *
-     * @param categories 대상 카테고리 목록
-     * @param categoryIds 순서를 변경할 카테고리 ID 목록
+     * @param categories 요청 순서대로 정렬된 카테고리 목록
      */
-    private void reassignCategoryOrder(List<Category> categories, List<Long> categoryIds) {
-        List<Integer> categoryOrders = getCategoryOrders(categoryIds);
-        Collections.sort(categoryOrders);
-        for (int i = 0; i < categories.size(); i++) {
-            categories.get(i).updateCategoryOrder(categoryOrders.get(i));
-            categoryRepository.save(categories.get(i));
-        }
-    }
+    private void reassignCategoryOrder(List<Category> categories) {
+        List<Integer> categoryOrders = categories.stream()
+                .map(Category::getCategoryOrder)
+                .sorted()
+                .toList();
 
-    /**
-     * 카테고리 순서 목록을 조회합니다.
-     *
-     * @param categoryIds 조회할 카테고리 ID 목록
-     * @return 카테고리 순서 목록
-     */
-    private List<Integer> getCategoryOrders(List<Long> categoryIds) {
-        List<Integer> categoryOrders = new ArrayList<>();
-        for (Long categoryId : categoryIds) {
-            Category category = categoryRepository.findById(categoryId).get();
-            categoryOrders.add(category.getCategoryOrder());
+        Map<Long, Integer> changedOrders = new HashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            Category category = categories.get(i);
+            if (category.getCategoryOrder() != categoryOrders.get(i)) {
+                changedOrders.put(category.getId(), categoryOrders.get(i));
+            }
         }
-        return categoryOrders;
+        categoryRepository.updateCategoryOrders(changedOrders);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package server.poptato.category.application.event;
+
+/**
+ * 사용자의 카테고리 목록(이름, 이모지, 순서, 생성/삭제)이 변경되었음을 알리는 이벤트.
+ */
+public record CategoryChangeEvent(
+        Long userId
+) {
+    public static CategoryChangeEvent of(Long userId) {
+        return new CategoryChangeEvent(userId);
+    }
+}
@@ -0,0 +1,24 @@
+package server.poptato.category.application.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import server.poptato.category.application.event.CategoryChangeEvent;
+import server.poptato.category.infra.cache.UserCategoryCache;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryEventListener {
+
+    private final UserCategoryCache userCategoryCache;
+
+    /**
+     * 카테고리 변경이 커밋된 뒤 사용자의 카테고리 캐시를 무효화합니다.
+     * 커밋 전에 지우면 다른 요청이 변경 전 상태를 다시 캐싱할 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCategoryChange(CategoryChangeEvent event) {
+        userCategoryCache.evict(event.userId());
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import server.poptato.category.domain.entity.Category;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface CategoryRepository {
@@ -14,11 +16,19 @@ public interface CategoryRepository {
 
     Page<Category> findDefaultAndByUserIdOrderByCategoryOrder(Long userId, Pageable pageable);
 
+    List<Category> findDefaultAndByUserId(Long userId);
+
     Optional<Category> findById(Long categoryId);
 
+    List<Category> findAllById(Iterable<Long> categoryIds);
+
+    void updateCategoryOrders(Map<Long, Integer> categoryOrdersByCategoryId);
+
     void delete(Category category);
 
-    void deleteByUserId(Long userId);
+    void deleteById(Long categoryId);
+
+    int deleteAllByUserId(Long userId);
 
     default Page<Category> findCategories(Long userId, Pageable pageable) {
         return findDefaultAndByUserIdOrderByCategoryOrder(userId, pageable);
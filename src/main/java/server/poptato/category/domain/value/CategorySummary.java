@@ -0,0 +1,35 @@
+package server.poptato.category.domain.value;
+
+import server.poptato.category.domain.entity.Category;
+
+import java.util.Objects;
+
+/**
+ * 캐시에 보관하는 카테고리 요약 정보.
+ */
+public record CategorySummary(
+        Long id,
+        Long userId,
+        String name,
+        int categoryOrder,
+        Long emojiId
+) {
+    private static final Long DEFAULT_CATEGORY_USER_ID = -1L;
+
+    public static CategorySummary from(Category category) {
+        return new CategorySummary(
+                category.getId(),
+                category.getUserId(),
+                category.getName(),
+                category.getCategoryOrder(),
+                category.getEmojiId()
+        );
+    }
+
+    /**
+     * 사용자의 카테고리이거나 모든 사용자가 공유하는 기본 카테고리인지 확인합니다.
+     */
+    public boolean isAccessibleBy(Long userId) {
+        return Objects.equals(this.userId, userId) || Objects.equals(this.userId, DEFAULT_CATEGORY_USER_ID);
+    }
+}
@@ -3,11 +3,14 @@ package server.poptato.category.infra;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface JpaCategoryRepository extends CategoryRepository, JpaRepository<Category, Long> {
@@ -26,4 +29,16 @@ public interface JpaCategoryRepository extends CategoryRepository, JpaRepository
         ORDER BY c.categoryOrder ASC
     """)
     Page<Category> findDefaultAndByUserIdOrderByCategoryOrder(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+        SELECT c
+        FROM Category c
+        WHERE c.userId = :userId OR c.userId = -1
+    """)
+    List<Category> findDefaultAndByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Category c WHERE c.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,42 @@
+package server.poptato.category.infra;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JpaCategoryRepository}의 사용자 정의 구현입니다.
+ */
+@RequiredArgsConstructor
+public class JpaCategoryRepositoryImpl {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 여러 카테고리의 순서 값을 하나의 UPDATE 문(CASE id WHEN ... THEN ...)으로 변경합니다.
+     *
+     * @param categoryOrdersByCategoryId 카테고리 ID별 새 순서 값
+     */
+    public void updateCategoryOrders(Map<Long, Integer> categoryOrdersByCategoryId) {
+        if (categoryOrdersByCategoryId == null || categoryOrdersByCategoryId.isEmpty()) {
+            return;
+        }
+        StringBuilder jpql = new StringBuilder("UPDATE Category c SET c.categoryOrder = CASE c.id");
+        List<Map.Entry<Long, Integer>> entries = List.copyOf(categoryOrdersByCategoryId.entrySet());
+        for (int index = 0; index < entries.size(); index++) {
+            jpql.append(" WHEN :id").append(index).append(" THEN :order").append(index);
+        }
+        jpql.append(" ELSE c.categoryOrder END WHERE c.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int index = 0; index < entries.size(); index++) {
+            query.setParameter("id" + index, entries.get(index).getKey());
+            query.setParameter("order" + index, entries.get(index).getValue());
+        }
+        query.setParameter("ids", categoryOrdersByCategoryId.keySet());
+        query.executeUpdate();
+    }
+}
@@ -0,0 +1,85 @@
+package server.poptato.category.infra.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySummary;
+
+/**
+ * 사용자별로 접근 가능한 카테고리(사용자 카테고리 + 기본 카테고리)를 인스턴스 로컬에 캐싱합니다.
+ * - 사용자 단위로 한 번에 적재하며, 최대 사용자 수와 TTL로 크기와 오래된 값의 유지 시간을 제한합니다.
+ * - 카테고리가 변경되면 evict 로 로컬 값을 지우고 Redis 채널로 전파하여 다른 인스턴스의 값도 지웁니다.
+ */
+@Slf4j
+@Component
+public class UserCategoryCache implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "cache:user-category:evict";
+    private static final long MAXIMUM_SIZE = 50_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Cache<Long, Map<Long, CategorySummary>> categoriesByUserId = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    private final CategoryRepository categoryRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public UserCategoryCache(CategoryRepository categoryRepository,
+                             StringRedisTemplate stringRedisTemplate,
+                             RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.categoryRepository = categoryRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 사용자가 접근 가능한 카테고리를 ID별로 반환합니다. 캐시에 없으면 DB에서 한 번에 적재합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 카테고리 ID별 요약 정보
+     */
+    public Map<Long, CategorySummary> get(Long userId) {
+        return categoriesByUserId.get(userId, this::load);
+    }
+
+    /**
+     * 사용자의 카테고리 캐시를 지우고, 다른 인스턴스에도 무효화를 전파합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        categoriesByUserId.invalidate(userId);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("[UserCategoryCache] userId={} 무효화 전파 실패 - TTL 이후 만료됩니다.", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        categoriesByUserId.invalidate(Long.valueOf(new String(message.getBody())));
+    }
+
+    private Map<Long, CategorySummary> load(Long userId) {
+        return categoryRepository.findDefaultAndByUserId(userId).stream()
+                .map(CategorySummary::from)
+                .collect(Collectors.toUnmodifiableMap(CategorySummary::id, Function.identity()));
+    }
+}
@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import server.poptato.category.domain.entity.Category;
 import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.category.domain.value.CategorySummary;
+import server.poptato.category.infra.cache.UserCategoryCache;
 import server.poptato.category.status.CategoryErrorStatus;
 import server.poptato.global.exception.CustomException;
 
@@ -12,6 +14,7 @@ import java.util.Objects;
 
 /**
  * 카테고리 관련 유효성 검증을 처리하는 클래스입니다.
+ * 소유권 검증은 {@link UserCategoryCache}의 사용자별 카테고리 캐시를 사용합니다.
  */
 @Slf4j
 @Component
@@ -19,9 +22,11 @@ import java.util.Objects;
 public class CategoryValidator {
 
     private final CategoryRepository categoryRepository;
+    private final UserCategoryCache userCategoryCache;
 
     /**
      * 특정 카테고리를 검증하고, 검증에 성공하면 해당 카테고리를 반환합니다.
+     * 소유권은 캐시로 먼저 검증하고, 변경에 사용할 엔티티만 DB에서 조회합니다.
      * - 카테고리가 존재하지 않는 경우 예외 발생
      * - 사용자 ID와 카테고리 소유자 ID가 일치하지 않는 경우 예외 발생
      *
@@ -31,15 +36,25 @@ public class CategoryValidator {
      * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_NOT_EXIST}, {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
      */
     public Category validateAndReturnCategory(Long userId, Long categoryId) {
-        Category findCategory = categoryRepository.findById(categoryId)
+        validateAndReturnCategorySummary(userId, categoryId);
+        return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(CategoryErrorStatus._CATEGORY_NOT_EXIST));
+    }
 
-        if (!Objects.equals(findCategory.getUserId(), userId) && !Objects.equals(findCategory.getUserId(), -1L)) {
-            log.warn("🚨 Category ownership mismatch! categoryId={}, requested by userId={}, but belongs to userId={}",
-                    categoryId, userId, findCategory.getUserId());
+    /**
+     * 이미 조회한 카테고리의 소유자를 검증합니다.
+     * - 사용자 ID와 카테고리 소유자 ID가 일치하지 않고 기본 카테고리도 아닌 경우 예외 발생
+     *
+     * @param userId 사용자 ID
+     * @param category 검증할 카테고리
+     * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
+     */
+    public void validateCategoryOwner(Long userId, Category category) {
+        if (!Objects.equals(category.getUserId(), userId) && !Objects.equals(category.getUserId(), -1L)) {
+            log.warn("🚨 Validation failed! userId={} tried to access categoryId={} owned by userId={}",
+                    userId, category.getId(), category.getUserId());
             throw new CustomException(CategoryErrorStatus._CATEGORY_USER_NOT_MATCH);
         }
-        return findCategory;
     }
 
     /**
@@ -52,13 +67,30 @@ public class CategoryValidator {
      * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_NOT_EXIST}, {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
      */
     public void validateCategory(Long userId, Long categoryId) {
+        validateAndReturnCategorySummary(userId, categoryId);
+    }
+
+    /**
+     * 특정 카테고리를 검증하고, 검증에 성공하면 캐시된 카테고리 요약 정보를 반환합니다.
+     * 캐시에 없는 카테고리만 DB에서 조회하여 존재하지 않는 경우와 소유자가 다른 경우를 구분합니다.
+     *
+     * @param userId 사용자 ID
+     * @param categoryId 검증할 카테고리 ID
+     * @return 검증된 카테고리 요약 정보
+     * @throws CustomException {@link CategoryErrorStatus#_CATEGORY_NOT_EXIST}, {@link CategoryErrorStatus#_CATEGORY_USER_NOT_MATCH} 예외 발생
+     */
+    public CategorySummary validateAndReturnCategorySummary(Long userId, Long categoryId) {
+        CategorySummary cached = userCategoryCache.get(userId).get(categoryId);
+        if (cached != null) {
+            return cached;
+        }
+
         Category findCategory = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new CustomException(CategoryErrorStatus._CATEGORY_NOT_EXIST));
+        validateCategoryOwner(userId, findCategory);
 
-        if (!Objects.equals(findCategory.getUserId(), userId) && !Objects.equals(findCategory.getUserId(), -1L)) {
-            log.warn("🚨 Validation failed! userId={} tried to access categoryId={} owned by userId={}",
-                    userId, categoryId, findCategory.getUserId());
-            throw new CustomException(CategoryErrorStatus._CATEGORY_USER_NOT_MATCH);
-        }
+        // 다른 인스턴스에서 생성되어 아직 캐시에 반영되지 않은 카테고리
+        userCategoryCache.evict(userId);
+        return CategorySummary.from(findCategory);
     }
 }
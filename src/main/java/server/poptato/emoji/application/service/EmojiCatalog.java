@@ -0,0 +1,142 @@
+package server.poptato.emoji.application.service;
+
+import org.springframework.data.domain.PageRequest;
+import server.poptato.emoji.application.response.EmojiDto;
+import server.poptato.emoji.application.response.EmojiResponseDto;
+import server.poptato.emoji.domain.entity.Emoji;
+import server.poptato.global.util.FileUtil;
+import server.poptato.user.domain.value.MobileType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이모지 테이블 전체를 메모리에 올린 변경 불가능한 카탈로그.
+ * 모바일 타입별 이미지 URL을 미리 계산해 두므로, 조회 시 쿼리나 URL 변환 없이 맵 조회만 수행합니다.
+ */
+public final class EmojiCatalog {
+
+    // 이모지 목록 조회에 노출하는 이모지 ID의 시작 값 (findAllEmojis 와 동일)
+    private static final long MIN_SELECTABLE_EMOJI_ID = 3L;
+
+    private final Map<Long, Entry> entriesById;
+    private final List<Entry> selectableEntries;
+    private final String contentHash;
+
+    private EmojiCatalog(Map<Long, Entry> entriesById, List<Entry> selectableEntries, String contentHash) {
+        this.entriesById = entriesById;
+        this.selectableEntries = selectableEntries;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 이모지 목록으로 카탈로그를 생성합니다.
+     *
+     * @param emojis 전체 이모지 목록
+     * @return 생성된 카탈로그
+     */
+    public static EmojiCatalog from(List<Emoji> emojis) {
+        List<Emoji> sortedEmojis = emojis.stream()
+                .sorted(Comparator.comparing(Emoji::getId))
+                .toList();
+
+        Map<Long, Entry> entriesById = new HashMap<>();
+        for (Emoji emoji : sortedEmojis) {
+            entriesById.put(emoji.getId(), Entry.from(emoji));
+        }
+        List<Entry> selectableEntries = sortedEmojis.stream()
+                .filter(emoji -> emoji.getId() >= MIN_SELECTABLE_EMOJI_ID)
+                .map(emoji -> entriesById.get(emoji.getId()))
+                .toList();
+
+        return new EmojiCatalog(Map.copyOf(entriesById), selectableEntries, hash(sortedEmojis));
+    }
+
+    public boolean contains(Long emojiId) {
+        return emojiId != null && entriesById.containsKey(emojiId);
+    }
+
+    /**
+     * 모바일 타입에 맞는 이모지 이미지 URL을 반환합니다.
+     *
+     * @param emojiId 이모지 ID
+     * @param mobileType 모바일 타입
+     * @return 이미지 URL (존재하지 않는 이모지는 null)
+     */
+    public String imageUrl(Long emojiId, MobileType mobileType) {
+        Entry entry = emojiId != null ? entriesById.get(emojiId) : null;
+        return entry != null ? entry.dtos().get(mobileType).imageUrl() : null;
+    }
+
+    /**
+     * 선택 가능한 이모지를 페이지 단위로 잘라 그룹 이름별로 묶어 반환합니다.
+     *
+     * @param mobileType 모바일 타입
+     * @param page 요청 페이지 번호
+     * @param size 한 페이지당 항목 수
+     * @return 그룹화된 이모지 목록 및 전체 페이지 수
+     */
+    public EmojiResponseDto groupedEmojis(MobileType mobileType, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        int total = selectableEntries.size();
+        int from = (int) Math.min(pageRequest.getOffset(), total);
+        int to = Math.min(from + size, total);
+
+        Map<String, List<EmojiDto>> groupedEmojis = new LinkedHashMap<>();
+        for (Entry entry : selectableEntries.subList(from, to)) {
+            if (entry.groupName() != null) {
+                groupedEmojis.computeIfAbsent(entry.groupName(), key -> new ArrayList<>())
+                        .add(entry.dtos().get(mobileType));
+            }
+        }
+        int totalPageCount = (total + size - 1) / size;
+        return new EmojiResponseDto(groupedEmojis, totalPageCount);
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    public String contentHash() {
+        return contentHash;
+    }
+
+    private static String hash(List<Emoji> sortedEmojis) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Emoji emoji : sortedEmojis) {
+                String line = emoji.getId() + "|" + emoji.getImageUrl() + "|" + emoji.getGroupName() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(
+            String groupName,
+            Map<MobileType, EmojiDto> dtos
+    ) {
+        private static Entry from(Emoji emoji) {
+            Map<MobileType, EmojiDto> dtos = new EnumMap<>(MobileType.class);
+            for (MobileType mobileType : MobileType.values()) {
+                dtos.put(mobileType, new EmojiDto(
+                        emoji.getId(),
+                        FileUtil.changeFileExtension(emoji.getImageUrl(), mobileType.getImageUrlExtension())
+                ));
+            }
+            String groupName = emoji.getGroupName() != null ? emoji.getGroupName().name() : null;
+            return new Entry(groupName, dtos);
+        }
+    }
+}
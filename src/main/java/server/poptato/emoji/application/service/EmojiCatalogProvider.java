@@ -0,0 +1,44 @@
+package server.poptato.emoji.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.emoji.domain.repository.EmojiRepository;
+
+/**
+ * {@link EmojiCatalog}를 보관하고 주기적으로 갱신합니다.
+ * 애플리케이션 시작 시 적재하며, 갱신 시 내용 해시가 같으면 기존 카탈로그를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmojiCatalogProvider {
+
+    private final EmojiRepository emojiRepository;
+
+    private volatile EmojiCatalog catalog;
+
+    public EmojiCatalog get() {
+        EmojiCatalog current = catalog;
+        return current != null ? current : load();
+    }
+
+    @Scheduled(fixedDelayString = "${scheduling.emojiCatalogRefreshDelay:600000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("[EmojiCatalog] 이모지 카탈로그 갱신 실패 - 기존 카탈로그를 유지합니다.", e);
+        }
+    }
+
+    private synchronized EmojiCatalog load() {
+        EmojiCatalog loaded = EmojiCatalog.from(emojiRepository.findAll());
+        if (catalog == null || !catalog.contentHash().equals(loaded.contentHash())) {
+            catalog = loaded;
+            log.info("[EmojiCatalog] 이모지 카탈로그 적재 완료 (size={}, hash={})", loaded.size(), loaded.contentHash());
+        }
+        return catalog;
+    }
+}
@@ -4,12 +4,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import server.poptato.emoji.domain.entity.Emoji;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface EmojiRepository {
 
     Optional<Emoji> findById(Long id);
 
+    List<Emoji> findAll();
+
     String findImageUrlById(Long emojiId);
 
     Page<Emoji> findAllEmojis(Pageable pageable);
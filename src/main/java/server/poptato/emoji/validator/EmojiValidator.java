@@ -2,6 +2,7 @@ package server.poptato.emoji.validator;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import server.poptato.emoji.application.service.EmojiCatalogProvider;
 import server.poptato.emoji.domain.entity.Emoji;
 import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.emoji.status.EmojiErrorStatus;
@@ -12,15 +13,20 @@ import server.poptato.global.exception.CustomException;
 public class EmojiValidator {
 
     private final EmojiRepository emojiRepository;
+    private final EmojiCatalogProvider emojiCatalogProvider;
 
     /**
      * 특정 이모지가 존재하는지 검증합니다.
      * 존재하지 않을 경우 예외를 발생시킵니다.
+     * 카탈로그에 있는 이모지는 DB 조회 없이 통과하며, 카탈로그 갱신 전에 추가된 이모지만 DB에서 확인합니다.
      *
      * @param id 검증할 이모지 ID
      * @throws CustomException 존재하지 않는 경우 {@link EmojiErrorStatus#_EMOJI_NOT_EXIST} 예외 발생
      */
     public void checkIsExistEmoji(Long id) {
+        if (emojiCatalogProvider.get().contains(id)) {
+            return;
+        }
         emojiRepository.findById(id)
                 .orElseThrow(() -> new CustomException(EmojiErrorStatus._EMOJI_NOT_EXIST));
     }
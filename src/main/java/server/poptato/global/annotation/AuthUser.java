@@ -0,0 +1,14 @@
+package server.poptato.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Authorization 헤더의 액세스 토큰에서 추출한 사용자 ID를 컨트롤러 파라미터(Long)로 주입합니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AuthUser {
+}
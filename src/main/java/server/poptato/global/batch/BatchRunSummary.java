@@ -0,0 +1,43 @@
+package server.poptato.global.batch;
+
+import java.time.Duration;
+
+/**
+ * 파티션 단위로 실행된 배치 작업의 결과 요약.
+ */
+public record BatchRunSummary(
+        String jobName,
+        int partitions,
+        int failedPartitions,
+        long processedUsers,
+        long updatedRows,
+        Duration elapsed
+) {
+
+    public static BatchRunSummary empty(String jobName) {
+        return new BatchRunSummary(jobName, 0, 0, 0, 0, Duration.ZERO);
+    }
+
+    public static BatchRunSummary ofPartition(long processedUsers, long updatedRows) {
+        return new BatchRunSummary(null, 1, 0, processedUsers, updatedRows, Duration.ZERO);
+    }
+
+    public static BatchRunSummary failedPartition() {
+        return new BatchRunSummary(null, 1, 1, 0, 0, Duration.ZERO);
+    }
+
+    public BatchRunSummary merge(BatchRunSummary other) {
+        return new BatchRunSummary(
+                jobName,
+                partitions + other.partitions,
+                failedPartitions + other.failedPartitions,
+                processedUsers + other.processedUsers,
+                updatedRows + other.updatedRows,
+                elapsed
+        );
+    }
+
+    public BatchRunSummary withElapsed(Duration elapsed) {
+        return new BatchRunSummary(jobName, partitions, failedPartitions, processedUsers, updatedRows, elapsed);
+    }
+}
@@ -0,0 +1,30 @@
+package server.poptato.global.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배치 파티션 단위가 되는 ID 범위. 양 끝 값을 모두 포함합니다.
+ */
+public record IdRange(
+        long fromId,
+        long toId
+) {
+
+    /**
+     * 전체 범위를 지정된 크기의 연속된 범위로 나눕니다.
+     *
+     * @param rangeSize 각 범위에 포함될 ID 개수
+     * @return 나뉜 범위 목록
+     */
+    public List<IdRange> split(long rangeSize) {
+        List<IdRange> ranges = new ArrayList<>();
+        for (long from = fromId; from <= toId; from += rangeSize) {
+            ranges.add(new IdRange(from, Math.min(from + rangeSize - 1, toId)));
+            if (from > Long.MAX_VALUE - rangeSize) {
+                break;
+            }
+        }
+        return ranges;
+    }
+}
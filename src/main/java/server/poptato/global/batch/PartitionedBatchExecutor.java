@@ -0,0 +1,90 @@
+package server.poptato.global.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * ID 범위를 파티션으로 나누어 배치 작업을 병렬로 실행하는 실행기.
+ * - 각 파티션은 배치 전용 스레드 풀에서 실행되며, 트랜잭션은 작업 내부에서 파티션마다 따로 관리합니다.
+ * - 동시에 DB 커넥션을 사용하는 파티션 수는 batch.max-connections 로 제한합니다.
+ * - 파티션별 결과는 하나의 {@link BatchRunSummary}로 합쳐 반환합니다.
+ * - 완료된 파티션 수를 약 10% 단위로 로그에 남겨 진행률을 확인할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class PartitionedBatchExecutor {
+
+    private static final int PROGRESS_LOG_COUNT = 10;
+
+    private final Executor batchExecutor;
+    private final Semaphore connectionPermits;
+
+    public PartitionedBatchExecutor(@Qualifier("batchExecutor") Executor batchExecutor,
+                                    @Value("${batch.max-connections}") int maxConnections) {
+        this.batchExecutor = batchExecutor;
+        this.connectionPermits = new Semaphore(maxConnections);
+    }
+
+    /**
+     * 전체 ID 범위를 rangeSize 단위의 파티션으로 나누어 병렬 실행합니다.
+     * 실패한 파티션은 로그를 남기고 요약의 실패 건수에 반영하며, 나머지 파티션은 계속 실행합니다.
+     *
+     * @param jobName 작업 이름
+     * @param span 전체 ID 범위
+     * @param rangeSize 파티션당 ID 개수
+     * @param task 파티션 작업
+     * @return 전체 실행 요약
+     */
+    public BatchRunSummary execute(String jobName, IdRange span, long rangeSize, Function<IdRange, BatchRunSummary> task) {
+        long startedAt = System.nanoTime();
+        List<IdRange> partitions = span.split(rangeSize);
+        int progressStep = Math.max(1, partitions.size() / PROGRESS_LOG_COUNT);
+        AtomicInteger completedPartitions = new AtomicInteger();
+
+        List<CompletableFuture<BatchRunSummary>> futures = partitions.stream()
+                .map(range -> CompletableFuture
+                        .supplyAsync(() -> runWithPermit(task, range), batchExecutor)
+                        .exceptionally(e -> {
+                            log.error("[Batch] {} 파티션 실패: range={}", jobName, range, e);
+                            return BatchRunSummary.failedPartition();
+                        })
+                        .whenComplete((result, e) -> logProgress(jobName, completedPartitions.incrementAndGet(),
+                                partitions.size(), progressStep)))
+                .toList();
+
+        BatchRunSummary summary = futures.stream()
+                .map(CompletableFuture::join)
+                .reduce(BatchRunSummary.empty(jobName), BatchRunSummary::merge)
+                .withElapsed(Duration.ofNanos(System.nanoTime() - startedAt));
+
+        log.info("[Batch] {} 완료: partitions={}, failed={}, users={}, rows={}, elapsed={}ms",
+                jobName, summary.partitions(), summary.failedPartitions(), summary.processedUsers(),
+                summary.updatedRows(), summary.elapsed().toMillis());
+        return summary;
+    }
+
+    private void logProgress(String jobName, int completed, int total, int progressStep) {
+        if (completed % progressStep == 0 || completed == total) {
+            log.info("[Batch] {} 진행: {}/{} 파티션", jobName, completed, total);
+        }
+    }
+
+    private BatchRunSummary runWithPermit(Function<IdRange, BatchRunSummary> task, IdRange range) {
+        connectionPermits.acquireUninterruptibly();
+        try {
+            return task.apply(range);
+        } finally {
+            connectionPermits.release();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package server.poptato.global.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 배치 작업용 스레드 풀 설정.
+ * 자정 배치 파티션, FCM 묶음 전송, 탈퇴 사용자 purge 는 서로의 작업을 기다리지 않도록 각각 별도의 스레드 풀에서 실행합니다.
+ * 모든 풀은 대기열 크기가 제한되어 있어, 대기열이 가득 차면 아래 거부 정책이 적용됩니다.
+ */
+@Slf4j
+@Configuration
+public class BatchConfig {
+
+    /**
+     * 자정 배치 파티션을 실행하는 스레드 풀.
+     * 대기열이 가득 차면 파티션을 제출한 스레드가 직접 실행하므로, 제출 속도가 처리 속도에 맞춰집니다.
+     */
+    @Bean(name = "batchExecutor")
+    public Executor getBatchExecutor(@Value("${batch.parallelism}") int parallelism,
+                                     @Value("${batch.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor(parallelism, queueCapacity, "Batch-Executor-", new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * FCM 묶음 전송 스레드 풀.
+     * 전송하는 쪽이 모든 묶음의 완료를 기다리므로, 대기열이 가득 차면 전송하는 스레드가 직접 실행합니다.
+     */
+    @Bean(name = "fcmExecutor")
+    public Executor getFcmExecutor(@Value("${batch.fcm-parallelism:4}") int parallelism,
+                                   @Value("${batch.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor(parallelism, queueCapacity, "Fcm-Executor-", new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 탈퇴 사용자 purge 스레드 풀.
+     * 요청 스레드나 스케줄러 스레드가 purge 를 직접 실행하지 않도록, 대기열이 가득 차면 작업을 버립니다.
+     * 버려진 사용자는 purge 대기 목록에 남아 있으므로 주기적인 재개 작업에서 다시 처리됩니다.
+     */
+    @Bean(name = "purgeExecutor")
+    public Executor getPurgeExecutor(@Value("${batch.purge-parallelism:2}") int parallelism,
+                                     @Value("${batch.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor(parallelism, queueCapacity, "Purge-Executor-",
+                (task, executor) -> log.warn("[UserPurge] purge 대기열이 가득 차 작업을 다음 재개 주기로 미룹니다. queueSize={}",
+                        executor.getQueue().size()));
+    }
+
+    private Executor createExecutor(int poolSize, int queueCapacity, String threadNamePrefix,
+                                    RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+
+        executor.setThreadNamePrefix(threadNamePrefix);
+
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+
+        executor.initialize();
+        return executor;
+    }
+}
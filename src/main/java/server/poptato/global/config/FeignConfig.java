@@ -1,15 +1,24 @@
 package server.poptato.global.config;
 
+import feign.Client;
 import feign.RequestInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import server.poptato.infra.feign.FeignHttpClientProperties;
+import server.poptato.infra.feign.PooledFeignClient;
 
 @Configuration
 @EnableFeignClients(basePackages = "server.poptato.infra")
 public class FeignConfig {
 
+    @Bean
+    public Client feignClient(FeignHttpClientProperties feignHttpClientProperties, MeterRegistry meterRegistry) {
+        return new PooledFeignClient(feignHttpClientProperties, meterRegistry);
+    }
+
     @Bean
     public RequestInterceptor notionRequestInterceptor(
             @Value("${notion.secret-key}") String secretKey) {
@@ -18,7 +18,8 @@ public enum ErrorStatus implements BaseErrorCode {
     _UNSUPPORTED_MEDIA_TYPE(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "GLOBAL-415", "지원되지 않는 미디어 타입입니다."),
     _NOT_FOUND_HANDLER(HttpStatus.NOT_FOUND, "GLOBAL-404", "해당 경로에 대한 핸들러를 찾을 수 없습니다."),
     _FAILED_TRANSLATE_SWAGGER(HttpStatus.INTERNAL_SERVER_ERROR, "GLOBAL-500", "Rest Docs로 생성된 json파일을 통한 스웨거 변환에 실패하였습니다."),
-    _INVALID_HEADER_VALUE(HttpStatus.BAD_REQUEST, "GLOBAL-400", "요청 헤더에 올바르지 않은 값이 포함되어 있습니다.")
+    _INVALID_HEADER_VALUE(HttpStatus.BAD_REQUEST, "GLOBAL-400", "요청 헤더에 올바르지 않은 값이 포함되어 있습니다."),
+    _INVALID_CURSOR(HttpStatus.BAD_REQUEST, "GLOBAL-400", "유효하지 않은 커서 값입니다.")
     ;
 
     private final HttpStatus httpStatus;
@@ -1,7 +1,12 @@
 package server.poptato.global.util;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
 import java.util.Collections;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -23,4 +28,49 @@ public class BatchUtil {
                 .mapToObj(i -> list.subList(i * size, Math.min((i + 1) * size, list.size())))
                 .collect(Collectors.toList());
     }
+
+    /**
+     * ID 오름차순으로 다음 묶음을 조회하며(id > lastId LIMIT size) 묶음 단위로 처리합니다.
+     * 전체 ID를 한 번에 메모리에 올리지 않으므로, 대상 수와 관계없이 한 묶음 크기만큼의 메모리만 사용합니다.
+     *
+     * @param size 한 번에 조회할 묶음 크기
+     * @param nextChunk 마지막으로 처리한 ID 이후의 ID 묶음을 조회하는 함수 (lastId, pageable)
+     * @param consumer 조회한 ID 묶음을 처리하는 함수
+     * @return 처리한 전체 ID 수
+     */
+    public static long forEachIdChunk(int size,
+                                      BiFunction<Long, Pageable, List<Long>> nextChunk,
+                                      Consumer<List<Long>> consumer) {
+        return forEachIdChunk(size, 0L, nextChunk, consumer);
+    }
+
+    /**
+     * 지정한 ID 이후부터 ID 오름차순으로 묶음 단위 처리를 이어서 진행합니다.
+     *
+     * @param size 한 번에 조회할 묶음 크기
+     * @param startAfterId 이 ID 이후부터 조회 (처음부터 처리하려면 0)
+     * @param nextChunk 마지막으로 처리한 ID 이후의 ID 묶음을 조회하는 함수 (lastId, pageable)
+     * @param consumer 조회한 ID 묶음을 처리하는 함수
+     * @return 처리한 전체 ID 수
+     */
+    public static long forEachIdChunk(int size,
+                                      Long startAfterId,
+                                      BiFunction<Long, Pageable, List<Long>> nextChunk,
+                                      Consumer<List<Long>> consumer) {
+        Pageable pageable = PageRequest.of(0, size);
+        long processedCount = 0;
+        Long lastId = startAfterId;
+
+        while (true) {
+            List<Long> chunk = nextChunk.apply(lastId, pageable);
+            if (chunk.isEmpty()) break;
+
+            consumer.accept(chunk);
+            processedCount += chunk.size();
+            lastId = chunk.get(chunk.size() - 1);
+
+            if (chunk.size() < size) break;
+        }
+        return processedCount;
+    }
 }
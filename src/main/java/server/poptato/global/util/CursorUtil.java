@@ -0,0 +1,46 @@
+package server.poptato.global.util;
+
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.response.status.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 구성하는 값들을 하나의 불투명한(opaque) 문자열로 인코딩합니다.
+     *
+     * @param values 커서를 구성하는 값 목록 (정렬 키 순서대로)
+     * @return URL-safe Base64로 인코딩된 커서 문자열
+     */
+    public static String encode(Object... values) {
+        String raw = String.join(DELIMITER, Arrays.stream(values).map(String::valueOf).toList());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 디코딩하여 구성 값 목록을 반환합니다.
+     *
+     * @param cursor 인코딩된 커서 문자열
+     * @param expectedSize 커서를 구성하는 값의 개수
+     * @return 디코딩된 값 목록
+     * @throws CustomException 커서 형식이 올바르지 않은 경우 {@link ErrorStatus#_INVALID_CURSOR} 예외 발생
+     */
+    public static List<String> decode(String cursor, int expectedSize) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> values = List.of(raw.split("\\" + DELIMITER, -1));
+            if (values.size() != expectedSize) {
+                throw new CustomException(ErrorStatus._INVALID_CURSOR);
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorStatus._INVALID_CURSOR);
+        }
+    }
+}
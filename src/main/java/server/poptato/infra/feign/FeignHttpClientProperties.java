@@ -0,0 +1,37 @@
+package server.poptato.infra.feign;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Feign 클라이언트가 사용하는 HTTP 커넥션 풀/타임아웃 설정.
+ * clients 에 Feign 클라이언트 이름(예: kakaoApiClient)으로 설정을 지정하면 해당 클라이언트는 defaults 대신 그 설정을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "feign-http")
+public class FeignHttpClientProperties {
+
+    private Pool defaults = new Pool();
+    private Map<String, Pool> clients = new HashMap<>();
+
+    public Pool poolOf(String clientName) {
+        return clients.getOrDefault(clientName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+        private Duration connectTimeout = Duration.ofSeconds(3);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private int maxIdleConnections = 5;
+        private Duration keepAlive = Duration.ofMinutes(5);
+    }
+}
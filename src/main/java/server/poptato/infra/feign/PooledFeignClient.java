@@ -0,0 +1,76 @@
+package server.poptato.infra.feign;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.okhttp.OkHttpClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.ConnectionPool;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 Feign 클라이언트가 공유하는 OkHttp 기반 HTTP 클라이언트.
+ * - Feign 클라이언트 이름별로 커넥션 풀을 따로 두어 keep-alive 커넥션을 재사용하므로, 요청마다 TLS 핸드셰이크를 하지 않습니다.
+ * - 타임아웃은 {@link FeignHttpClientProperties}의 클라이언트별 설정을 사용합니다.
+ * - 클라이언트별 요청 시간과 결과를 feign.client.requests 메트릭으로 기록합니다.
+ */
+public class PooledFeignClient implements Client {
+
+    private static final String METRIC_NAME = "feign.client.requests";
+
+    private final FeignHttpClientProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Target> targets = new ConcurrentHashMap<>();
+
+    public PooledFeignClient(FeignHttpClientProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String clientName = clientNameOf(request);
+        Target target = targets.computeIfAbsent(clientName, this::createTarget);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "IO_ERROR";
+        try {
+            Response response = target.client().execute(request, target.options());
+            outcome = String.valueOf(response.status());
+            return response;
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_NAME, "client", clientName, "status", outcome));
+        }
+    }
+
+    private Target createTarget(String clientName) {
+        FeignHttpClientProperties.Pool pool = properties.poolOf(clientName);
+        okhttp3.OkHttpClient okHttpClient = new okhttp3.OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(pool.getMaxIdleConnections(), pool.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS))
+                .connectTimeout(pool.getConnectTimeout())
+                .readTimeout(pool.getReadTimeout())
+                .followRedirects(true)
+                .build();
+        Request.Options options = new Request.Options(
+                pool.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                pool.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS,
+                true
+        );
+        return new Target(new OkHttpClient(okHttpClient), options);
+    }
+
+    private String clientNameOf(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return "unknown";
+    }
+
+    private record Target(OkHttpClient client, Request.Options options) {
+    }
+}
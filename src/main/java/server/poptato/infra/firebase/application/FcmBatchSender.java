@@ -0,0 +1,139 @@
+package server.poptato.infra.firebase.application;
+
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import server.poptato.global.util.BatchUtil;
+import server.poptato.infra.firebase.dto.FcmMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * FCM 푸시 알림을 묶음 단위로 전송합니다.
+ * - 최대 {@link #MAX_MESSAGES_PER_REQUEST}개씩 sendEach / sendEachForMulticast 한 번으로 전송합니다.
+ * - 묶음들은 fcmExecutor 에서 동시에 전송하므로, 동시 요청 수는 batch.fcm-parallelism 으로 제한됩니다.
+ * - 응답에서 INVALID_ARGUMENT, UNREGISTERED 로 실패한 토큰은 모아서 한 번에 삭제합니다.
+ * - 요청 전체가 실패하거나 예외가 발생한 묶음은 로그만 남기고 나머지 묶음은 계속 전송합니다.
+ * - 전송에 성공한 알림 목록을 반환하므로, 호출하는 쪽에서 성공한 알림만 후처리할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class FcmBatchSender {
+
+    public static final int MAX_MESSAGES_PER_REQUEST = 500;
+
+    private final FcmService fcmService;
+    private final FcmTokenService fcmTokenService;
+    private final Executor fcmExecutor;
+
+    public FcmBatchSender(FcmService fcmService,
+                          FcmTokenService fcmTokenService,
+                          @Qualifier("fcmExecutor") Executor fcmExecutor) {
+        this.fcmService = fcmService;
+        this.fcmTokenService = fcmTokenService;
+        this.fcmExecutor = fcmExecutor;
+    }
+
+    /**
+     * 서로 다른 알림 목록을 전송합니다.
+     *
+     * @param messages 보낼 알림 목록
+     * @return 전송에 성공한 알림 목록 (전달한 객체 그대로 반환)
+     */
+    public List<FcmMessage> send(List<FcmMessage> messages) {
+        return sendAll(messages, fcmService::sendEach);
+    }
+
+    /**
+     * 같은 알림을 여러 토큰에 전송합니다.
+     *
+     * @param clientIds 알림을 받을 FCM 토큰 목록
+     * @param title 알림 제목
+     * @param body 알림 본문
+     */
+    public void sendMulticast(List<String> clientIds, String title, String body) {
+        List<FcmMessage> messages = clientIds.stream()
+                .map(clientId -> FcmMessage.of(clientId, title, body))
+                .toList();
+        sendAll(messages, batch -> fcmService.sendEachForMulticast(
+                batch.stream().map(FcmMessage::clientId).toList(), title, body));
+    }
+
+    private List<FcmMessage> sendAll(List<FcmMessage> messages, BatchCall call) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<BatchResult>> futures = new ArrayList<>();
+        for (List<FcmMessage> batch : BatchUtil.splitIntoBatches(messages, MAX_MESSAGES_PER_REQUEST)) {
+            futures.add(CompletableFuture.supplyAsync(() -> sendBatch(batch, call), fcmExecutor));
+        }
+
+        List<FcmMessage> sentMessages = new ArrayList<>();
+        Set<String> invalidClientIds = new LinkedHashSet<>();
+        for (CompletableFuture<BatchResult> future : futures) {
+            try {
+                BatchResult result = future.join();
+                sentMessages.addAll(result.sentMessages());
+                invalidClientIds.addAll(result.invalidClientIds());
+            } catch (CompletionException e) {
+                log.error("❌ FCM 묶음 전송 중 예외 발생 - 다음 묶음을 계속 전송합니다.", e.getCause());
+            }
+        }
+        if (!invalidClientIds.isEmpty()) {
+            log.warn("❌ 유효하지 않은 FCM 토큰 {}개 삭제", invalidClientIds.size());
+            fcmTokenService.deleteInvalidTokens(new ArrayList<>(invalidClientIds));
+        }
+        return sentMessages;
+    }
+
+    /**
+     * 한 묶음을 전송하고, 전송에 성공한 알림과 삭제해야 할 토큰 목록을 반환합니다.
+     */
+    private BatchResult sendBatch(List<FcmMessage> batch, BatchCall call) {
+        BatchResponse response;
+        try {
+            response = call.send(batch);
+        } catch (FirebaseMessagingException e) {
+            log.error("❌ FCM 묶음 전송 실패 - size: {}, code: {}, message: {}", batch.size(), e.getMessagingErrorCode(), e.getMessage());
+            return new BatchResult(List.of(), List.of());
+        }
+
+        List<FcmMessage> sentMessages = new ArrayList<>();
+        List<String> invalidClientIds = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            SendResponse sendResponse = responses.get(i);
+            if (sendResponse.isSuccessful()) {
+                sentMessages.add(batch.get(i));
+                continue;
+            }
+            String clientId = batch.get(i).clientId();
+            MessagingErrorCode code = sendResponse.getException().getMessagingErrorCode();
+            if (code == MessagingErrorCode.INVALID_ARGUMENT || code == MessagingErrorCode.UNREGISTERED) {
+                invalidClientIds.add(clientId);
+            } else {
+                log.error("❌ FCM 전송 중 예외 발생 - clientId: {}, code: {}, message: {}", clientId, code, sendResponse.getException().getMessage());
+            }
+        }
+        return new BatchResult(sentMessages, invalidClientIds);
+    }
+
+    private record BatchResult(List<FcmMessage> sentMessages, List<String> invalidClientIds) {
+    }
+
+    @FunctionalInterface
+    private interface BatchCall {
+        BatchResponse send(List<FcmMessage> batch) throws FirebaseMessagingException;
+    }
+}
@@ -1,41 +1,37 @@
 package server.poptato.infra.firebase.application;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.MessagingErrorCode;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import server.poptato.infra.firebase.dto.FcmMessage;
 import server.poptato.infra.firebase.template.FcmNotificationTemplate;
 import server.poptato.global.util.BatchUtil;
-import server.poptato.todo.domain.entity.TimeAlarm;
-import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.TimeAlarmRepository;
-import server.poptato.todo.domain.repository.TodoRepository;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
-import server.poptato.user.domain.entity.Mobile;
-import server.poptato.user.domain.entity.User;
 import server.poptato.user.domain.repository.MobileRepository;
 import server.poptato.user.domain.repository.UserRepository;
 
+/**
+ * 푸쉬알림 대상 유저를 묶음 단위로 조회하고, 묶음마다 보낼 알림을 모아 {@link FcmBatchSender}로 한 번에 전송한다.
+ * 알림 대상(토큰, 내용)은 유저별로 조회하지 않고 묶음 전체에 대해 한 번의 쿼리로 조회한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FcmNotificationBatchService {
-    private final FcmService fcmService;
-    private final FcmTokenService fcmTokenService;
+    private final FcmBatchSender fcmBatchSender;
     private final UserRepository userRepository;
     private final MobileRepository mobileRepository;
-    private final TodoRepository todoRepository;
     private final TimeAlarmRepository timeAlarmRepository;
 
     @Value("${batch.size}")
@@ -43,61 +39,32 @@ public class FcmNotificationBatchService {
 
     /**
      * '오늘 할 일' 푸쉬알림을 전체 유저에게 전송한다.
+     * 유저 묶음마다 미완료 오늘 할 일과 기기를 한 번에 조인하여 (토큰, 할 일 내용) 목록을 조회한다.
      */
     @Async
     public void sendTodayTodosNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                sendUserTodayTodosNotification(user);
-            }
+        BatchUtil.forEachIdChunk(batchSize, userRepository::findPushAlarmUserIdsAfter, batch -> {
+            List<FcmMessage> messages = mobileRepository.findTodoPushTargets(batch, Type.TODAY, TodayStatus.INCOMPLETE).stream()
+                    .map(target -> FcmMessage.of(
+                            target.getClientId(),
+                            FcmNotificationTemplate.TODAY_TODOS.getTitle(),
+                            String.format(FcmNotificationTemplate.TODAY_TODOS.getBody(), target.getContent())))
+                    .toList();
+            fcmBatchSender.send(messages);
         });
     }
 
-    /**
-     * 유저에게 '오늘 할 일' 푸쉬알림을 전송한다.
-     *
-     * @param user 알림을 보낼 대상 유저
-     */
-    private void sendUserTodayTodosNotification(User user) {
-		List<Todo> incompleteTodayTodos = todoRepository.findIncompleteTodayTodos(user.getId(), TodayStatus.INCOMPLETE);
-		if (!incompleteTodayTodos.isEmpty()) {
-			List<Mobile> mobiles = mobileRepository.findAllByUserId(user.getId());
-			for (Mobile mobile : mobiles) {
-				for (Todo todo : incompleteTodayTodos) {
-					String body = String.format(FcmNotificationTemplate.TODAY_TODOS.getBody(), todo.getContent());
-					sendPushOrDeleteToken(
-						mobile.getClientId(),
-						FcmNotificationTemplate.TODAY_TODOS.getTitle(),
-						body
-					);
-				}
-			}
-		}
-    }
-
     /**
      * 하루 시작 푸쉬알림을, 아직 할 일이 없는 유저에게 전송한다.
      */
     @Async
     public void sendStartNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-				boolean hasIncompleteTodayTodos =
-					todoRepository.existsByUserIdAndTypeAndTodayStatus(user.getId(), Type.TODAY, TodayStatus.INCOMPLETE);
-				if (!hasIncompleteTodayTodos) {
-					List<Mobile> mobiles = mobileRepository.findAllByUserId(user.getId());
-					for (Mobile mobile : mobiles) {
-						sendPushOrDeleteToken(
-							mobile.getClientId(),
-							FcmNotificationTemplate.START_OF_DAY.getTitle(),
-							FcmNotificationTemplate.START_OF_DAY.getBody()
-						);
-					}
-				}
-            }
-        });
+        BatchUtil.forEachIdChunk(batchSize, userRepository::findPushAlarmUserIdsAfter, batch ->
+                fcmBatchSender.sendMulticast(
+                        mobileRepository.findClientIdsOfUsersWithoutTodos(batch, Type.TODAY, TodayStatus.INCOMPLETE),
+                        FcmNotificationTemplate.START_OF_DAY.getTitle(),
+                        FcmNotificationTemplate.START_OF_DAY.getBody()
+                ));
     }
 
     /**
@@ -105,67 +72,43 @@ public class FcmNotificationBatchService {
      */
     @Async
     public void sendEndOfDayNotifications() {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                boolean hasIncompleteTodayTodos =
-                        todoRepository.existsByUserIdAndTypeAndTodayStatus(user.getId(), Type.TODAY, TodayStatus.INCOMPLETE);
-                if (hasIncompleteTodayTodos) {
-                    List<Mobile> mobiles = mobileRepository.findAllByUserId(user.getId());
-                    for (Mobile mobile : mobiles) {
-                        sendPushOrDeleteToken(
-                                mobile.getClientId(),
-                                FcmNotificationTemplate.END_OF_DAY.getTitle(),
-                                FcmNotificationTemplate.END_OF_DAY.getBody()
-                        );
-                    }
-                }
-            }
-        });
+        BatchUtil.forEachIdChunk(batchSize, userRepository::findPushAlarmUserIdsAfter, batch ->
+                fcmBatchSender.sendMulticast(
+                        mobileRepository.findClientIdsOfUsersWithTodos(batch, Type.TODAY, TodayStatus.INCOMPLETE),
+                        FcmNotificationTemplate.END_OF_DAY.getTitle(),
+                        FcmNotificationTemplate.END_OF_DAY.getBody()
+                ));
     }
 
     /**
      * 시간이 설정된 할 일이 있는 유저에게 1시간 전 푸쉬알림을 전송한다.
+     * 알림 묶음마다 알림, 할 일, 기기를 한 번에 조인하여 (알림, 토큰, 할 일 내용) 목록을 조회하고,
+     * 기기 중 하나라도 전송에 성공한 알림만 한 번의 UPDATE로 알림 완료로 표시한다. 전송에 실패한 알림은 다음 실행에서 다시 전송된다.
      */
     @Async
     public void sendTimeDeadlineNotifications() {
         LocalTime from = LocalTime.now().withSecond(0).withNano(0);
         LocalTime to = from.plusHours(1);
 
-        List<TimeAlarm> alarms = timeAlarmRepository.findPushEnabledAlarms(from, to);
-
-        Map<Long, List<TimeAlarm>> alarmsByUser = alarms.stream()
-                .collect(Collectors.groupingBy(TimeAlarm::getUserId));
-
-        List<Long> userIds = alarmsByUser.keySet().stream().toList();
-        BatchUtil.splitIntoBatches(userIds, batchSize).forEach(batch -> {
-            for (Long userId : batch) {
-                sendUserTimeNotification(userId, alarmsByUser.get(userId));
-            }
-        });
-    }
-
-    /**
-     * 특정 유저의 시간 알림 목록에 대해 푸쉬알림을 전송한다.
-     *
-     * @param userId 유저 아이디
-     * @param alarmList 알림을 보낼 목록
-     */
-    private void sendUserTimeNotification(Long userId, List<TimeAlarm> alarmList) {
-        List<Mobile> mobiles = mobileRepository.findAllByUserId(userId);
-        for (Mobile mobile : mobiles) {
-            for (TimeAlarm timeAlarm : alarmList) {
-                todoRepository.findById(timeAlarm.getTodoId())
-                        .ifPresent(todo -> {
-                            sendPushOrDeleteToken(
-                                    mobile.getClientId(),
+        BatchUtil.forEachIdChunk(batchSize,
+                (lastAlarmId, pageable) -> timeAlarmRepository.findPushEnabledAlarmIdsAfter(from, to, lastAlarmId, pageable),
+                batch -> {
+                    Map<FcmMessage, Long> alarmIdsByMessage = new IdentityHashMap<>();
+                    timeAlarmRepository.findPushTargets(batch).forEach(target -> alarmIdsByMessage.put(
+                            FcmMessage.of(
+                                    target.getClientId(),
                                     FcmNotificationTemplate.TIME_DEADLINE.getTitle(),
-                                    todo.getContent());
-                            timeAlarm.updateNotified(true);
-                            timeAlarmRepository.save(timeAlarm);
-                        });
-            }
-        }
+                                    target.getContent()),
+                            target.getAlarmId()));
+
+                    List<Long> notifiedAlarmIds = fcmBatchSender.send(new ArrayList<>(alarmIdsByMessage.keySet())).stream()
+                            .map(alarmIdsByMessage::get)
+                            .distinct()
+                            .toList();
+                    if (!notifiedAlarmIds.isEmpty()) {
+                        timeAlarmRepository.markNotified(notifiedAlarmIds);
+                    }
+                });
     }
 
     /**
@@ -176,44 +119,11 @@ public class FcmNotificationBatchService {
      */
     @Async
     public void sendEventNotifications(String pushAlarmTitle, String pushAlarmContent) {
-        List<User> users = userRepository.findByIsPushAlarmTrue();
-
-        BatchUtil.splitIntoBatches(users, batchSize).forEach(batch -> {
-            for (User user : batch) {
-                List<Mobile> mobiles = mobileRepository.findAllByUserId(user.getId());
-                if (mobiles.isEmpty()) continue;
-
-                for (Mobile mobile : mobiles) {
-                    sendPushOrDeleteToken(
-                            mobile.getClientId(),
-                            pushAlarmTitle,
-                            pushAlarmContent
-                    );
-                }
-            }
-        });
-    }
-
-    /**
-     * FCM 푸쉬알림을 전송하거나, 유효하지 않은 토큰인 경우 삭제한다.
-     *
-     * @param clientId FCM 토큰 (디바이스 식별자)
-     * @param title 알림 제목
-     * @param body 알림 본문
-     */
-    private void sendPushOrDeleteToken(String clientId, String title, String body) {
-        try {
-            fcmService.sendPushNotification(clientId, title, body);
-        } catch (FirebaseMessagingException e) {
-            MessagingErrorCode code = e.getMessagingErrorCode();
-
-            if (code == MessagingErrorCode.INVALID_ARGUMENT || code == MessagingErrorCode.UNREGISTERED) {
-                log.warn("❌ 유효하지 않은 FCM 토큰 - clientId: {}, code: {}", clientId, code);
-                fcmTokenService.deleteInvalidToken(clientId);
-            } else {
-                log.error("❌ FCM 전송 중 예외 발생 - clientId: {}, code: {}, message: {}", clientId, code, e.getMessage());
-                throw new RuntimeException(e);
-            }
-        }
+        BatchUtil.forEachIdChunk(batchSize, userRepository::findPushAlarmUserIdsAfter, batch ->
+                fcmBatchSender.sendMulticast(
+                        mobileRepository.findClientIdsByUserIdIn(batch),
+                        pushAlarmTitle,
+                        pushAlarmContent
+                ));
     }
 }
@@ -1,10 +1,15 @@
 package server.poptato.infra.firebase.application;
 
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
 import org.springframework.stereotype.Service;
+import server.poptato.infra.firebase.dto.FcmMessage;
+
+import java.util.List;
 
 @Service
 public class FcmService {
@@ -18,14 +23,53 @@ public class FcmService {
      * @throws FirebaseMessagingException
      */
     public void sendPushNotification(String userToken, String title, String message) throws FirebaseMessagingException {
-        Message firebaseMessage = Message.builder()
-                .setToken(userToken)
-                .setNotification(Notification.builder()
-                        .setTitle(title)
-                        .setBody(message)
-                        .build())
+        FirebaseMessaging.getInstance().send(toMessage(FcmMessage.of(userToken, title, message)));
+    }
+
+    /**
+     * 여러 푸시 알림을 한 번의 요청으로 보내는 메서드.
+     * 응답의 순서는 messages 순서와 같으며, 토큰별 실패는 예외 대신 응답에 담긴다.
+     *
+     * @param messages 보낼 알림 목록 (최대 500개)
+     * @return 토큰별 전송 결과
+     * @throws FirebaseMessagingException 요청 전체가 실패한 경우
+     */
+    public BatchResponse sendEach(List<FcmMessage> messages) throws FirebaseMessagingException {
+        return FirebaseMessaging.getInstance().sendEach(messages.stream()
+                .map(this::toMessage)
+                .toList());
+    }
+
+    /**
+     * 같은 푸시 알림을 여러 토큰에 한 번의 요청으로 보내는 메서드.
+     * 응답의 순서는 userTokens 순서와 같으며, 토큰별 실패는 예외 대신 응답에 담긴다.
+     *
+     * @param userTokens 알림을 받을 토큰 목록 (최대 500개)
+     * @param title 알림 제목
+     * @param message 알림 본문
+     * @return 토큰별 전송 결과
+     * @throws FirebaseMessagingException 요청 전체가 실패한 경우
+     */
+    public BatchResponse sendEachForMulticast(List<String> userTokens, String title, String message) throws FirebaseMessagingException {
+        MulticastMessage multicastMessage = MulticastMessage.builder()
+                .addAllTokens(userTokens)
+                .setNotification(toNotification(title, message))
                 .build();
 
-        FirebaseMessaging.getInstance().send(firebaseMessage);
+        return FirebaseMessaging.getInstance().sendEachForMulticast(multicastMessage);
+    }
+
+    private Message toMessage(FcmMessage message) {
+        return Message.builder()
+                .setToken(message.clientId())
+                .setNotification(toNotification(message.title(), message.body()))
+                .build();
+    }
+
+    private Notification toNotification(String title, String message) {
+        return Notification.builder()
+                .setTitle(title)
+                .setBody(message)
+                .build();
     }
 }
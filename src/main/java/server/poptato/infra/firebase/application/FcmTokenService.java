@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 import server.poptato.user.domain.repository.MobileRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -28,4 +29,16 @@ public class FcmTokenService {
     public void deleteInvalidToken(String clientId) {
         mobileRepository.deleteByClientId(clientId);
     }
+
+    /**
+     * 전송 실패로 판단된 토큰들을 한 번에 삭제합니다.
+     *
+     * @param clientIds 삭제할 토큰 ID 목록
+     */
+    public void deleteInvalidTokens(List<String> clientIds) {
+        if (clientIds.isEmpty()) {
+            return;
+        }
+        mobileRepository.deleteAllByClientIdIn(clientIds);
+    }
 }
@@ -0,0 +1,11 @@
+package server.poptato.infra.firebase.dto;
+
+public record FcmMessage(
+        String clientId,
+        String title,
+        String body
+) {
+    public static FcmMessage of(String clientId, String title, String body) {
+        return new FcmMessage(clientId, title, body);
+    }
+}
@@ -38,6 +38,23 @@ public class LettuceLockRepository {
         );
     }
 
+    public boolean extend(final String key, final String token, final Duration timeout) {
+        String namespaced = generateKey(key);
+        String script =
+                "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                        "  return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                        "else " +
+                        "  return 0 " +
+                        "end";
+        Long extended = stringRedisTemplate.execute(
+                new DefaultRedisScript<>(script, Long.class),
+                singletonList(namespaced),
+                token,
+                String.valueOf(timeout.toMillis())
+        );
+        return extended != null && extended == 1L;
+    }
+
     private String generateKey(final String key) {
         return "lock:" + key;
     }
@@ -0,0 +1,126 @@
+package server.poptato.infra.oauth.apple;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import server.poptato.auth.status.AuthErrorStatus;
+import server.poptato.global.exception.CustomException;
+
+import java.math.BigInteger;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Apple 공개 키(JWKS)를 kid/alg 별 {@link PublicKey}로 변환하여 보관합니다.
+ * - 주기적으로 백그라운드에서 갱신하며, 로그인 요청은 Apple 서버를 호출하지 않고 보관된 키를 사용합니다.
+ * - 알 수 없는 kid 가 들어오면(키 교체) 즉시 갱신하되, 최소 간격을 두어 Apple 서버로 요청이 몰리지 않게 합니다.
+ * - 갱신에 실패하면 기존 키를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApplePublicKeyProvider {
+
+    private static final Duration MIN_FORCED_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final AppleApiClient appleApiClient;
+
+    private volatile Map<String, PublicKey> publicKeys = Map.of();
+    private volatile long lastForcedRefreshAt;
+
+    /**
+     * kid, alg 가 일치하는 Apple 공개 키를 반환합니다.
+     *
+     * @param kid 토큰 헤더의 kid
+     * @param alg 토큰 헤더의 alg
+     * @return 공개 키
+     * @throws CustomException 공개 키를 가져올 수 없거나 일치하는 키가 없는 경우
+     */
+    public PublicKey getPublicKey(String kid, String alg) {
+        PublicKey publicKey = publicKeys.get(keyOf(kid, alg));
+        if (publicKey != null) {
+            return publicKey;
+        }
+
+        forceRefresh();
+        if (publicKeys.isEmpty()) {
+            throw new CustomException(AuthErrorStatus._PUBLIC_KEY_REQUEST_FAILED);
+        }
+        publicKey = publicKeys.get(keyOf(kid, alg));
+        if (publicKey == null) {
+            throw new CustomException(AuthErrorStatus._NOT_FOUND_VALID_PUBLIC_KEY);
+        }
+        return publicKey;
+    }
+
+    @Scheduled(fixedDelayString = "${scheduling.applePublicKeyRefreshDelay:3600000}")
+    public void refresh() {
+        try {
+            load();
+        } catch (RuntimeException e) {
+            log.warn("[ApplePublicKey] Apple 공개 키 갱신 실패 - 기존 키를 유지합니다. (size={})", publicKeys.size(), e);
+        }
+    }
+
+    /**
+     * 알 수 없는 kid 가 들어왔을 때 키를 다시 가져옵니다.
+     * 마지막 강제 갱신 후 {@link #MIN_FORCED_REFRESH_INTERVAL}이 지나지 않았으면 호출하지 않습니다.
+     */
+    private synchronized void forceRefresh() {
+        long now = System.currentTimeMillis();
+        if (now - lastForcedRefreshAt < MIN_FORCED_REFRESH_INTERVAL.toMillis()) {
+            return;
+        }
+        lastForcedRefreshAt = now;
+        refresh();
+    }
+
+    private synchronized void load() {
+        JsonElement keysElement = JsonParser.parseString(appleApiClient.getApplePublicKeys())
+                .getAsJsonObject()
+                .get("keys");
+
+        Map<String, PublicKey> loaded = new HashMap<>();
+        for (JsonElement key : keysElement.getAsJsonArray()) {
+            JsonObject keyObject = key.getAsJsonObject();
+            loaded.put(
+                    keyOf(keyObject.get("kid").getAsString(), keyObject.get("alg").getAsString()),
+                    generatePublicKey(keyObject)
+            );
+        }
+        if (!loaded.isEmpty()) {
+            publicKeys = Map.copyOf(loaded);
+            log.info("[ApplePublicKey] Apple 공개 키 적재 완료 (size={})", loaded.size());
+        }
+    }
+
+    /**
+     * 공개 키 JSON 데이터를 실제 PublicKey 객체로 변환.
+     */
+    private PublicKey generatePublicKey(JsonObject keyObject) {
+        try {
+            BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(keyObject.get("n").getAsString()));
+            BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(keyObject.get("e").getAsString()));
+
+            RSAPublicKeySpec publicKeySpec = new RSAPublicKeySpec(modulus, exponent);
+            return KeyFactory.getInstance("RSA").generatePublic(publicKeySpec);
+        } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+            throw new CustomException(AuthErrorStatus._PUBLIC_KEY_GENERATION_FAILED);
+        }
+    }
+
+    private String keyOf(String kid, String alg) {
+        return kid + ":" + alg;
+    }
+}
@@ -1,5 +1,6 @@
 package server.poptato.infra.oauth.apple;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,10 +25,10 @@ public class AppleSocialService extends SocialService {
      */
     @Override
     public SocialUserInfo getUserData(LoginRequestDto request) {
-        var userInfoObject = appleTokenVerifier.verifyIdToken(request.accessToken());
+        Claims claims = appleTokenVerifier.verifyIdToken(request.accessToken());
 
         return new SocialUserInfo(
-                userInfoObject.get("sub").getAsString(),  // 소셜 ID
+                claims.getSubject(),  // 소셜 ID
                 request.name(),
                 request.email(),
                 null
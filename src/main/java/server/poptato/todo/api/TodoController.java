@@ -5,14 +5,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
-import server.poptato.auth.application.service.JwtService;
+import server.poptato.global.annotation.AuthUser;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
 import server.poptato.todo.api.request.*;
 import server.poptato.todo.application.TodoService;
+import server.poptato.todo.application.response.CursorHistoryResponseDto;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
 import server.poptato.todo.application.response.LegacyHistoryCalendarResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailListResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.domain.value.AppVersion;
 import server.poptato.user.domain.value.MobileType;
@@ -26,22 +28,21 @@ import java.util.List;
 public class TodoController {
 
     private final TodoService todoService;
-    private final JwtService jwtService;
 
     /**
      * 할 일 삭제 API.
      * 사용자가 특정 할 일을 삭제합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 삭제할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @DeleteMapping("/todo/{todoId}")
     public ResponseEntity<ApiResponse<SuccessStatus>> deleteTodo(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.deleteTodoById(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.deleteTodoById(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -49,16 +50,16 @@ public class TodoController {
      * 할 일 상태 스와이프 API.
      * 사용자가 할 일 상태를 스와이프 방식으로 업데이트합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param swipeRequestDto 스와이프 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/swipe")
     public ResponseEntity<ApiResponse<SuccessStatus>> swipe(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @Valid @RequestBody SwipeRequestDto swipeRequestDto
     ) {
-        todoService.swipe(jwtService.extractUserIdFromToken(authorizationHeader), swipeRequestDto);
+        todoService.swipe(userId, swipeRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -66,16 +67,16 @@ public class TodoController {
      * 할 일 즐겨찾기 상태 토글 API.
      * 사용자가 특정 할 일의 즐겨찾기 상태를 토글합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 대상 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/bookmark")
     public ResponseEntity<ApiResponse<SuccessStatus>> toggleIsBookmark(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.toggleIsBookmark(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.toggleIsBookmark(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -83,16 +84,16 @@ public class TodoController {
      * 할 일 드래그 앤 드롭 API.
      * 사용자가 드래그 앤 드롭 방식으로 할 일 순서를 변경합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoDragAndDropRequestDto 순서 변경 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/dragAndDrop")
     public ResponseEntity<ApiResponse<SuccessStatus>> dragAndDrop(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @Valid @RequestBody TodoDragAndDropRequestDto todoDragAndDropRequestDto
     ) {
-        todoService.dragAndDrop(jwtService.extractUserIdFromToken(authorizationHeader), todoDragAndDropRequestDto);
+        todoService.dragAndDrop(userId, todoDragAndDropRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -100,18 +101,37 @@ public class TodoController {
      * 할 일 상세 조회 API.
      * 특정 할 일의 세부 정보를 조회합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param mobileType 클라이언트의 모바일 타입
      * @param todoId 조회할 할 일 ID
      * @return 할 일 상세 정보
      */
     @GetMapping("/todo/{todoId}")
     public ResponseEntity<ApiResponse<TodoDetailResponseDto>> getTodoInfo(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestHeader(value = "X-Mobile-Type", required = false, defaultValue = "ANDROID") MobileType mobileType,
             @PathVariable Long todoId
     ) {
-        TodoDetailResponseDto response = todoService.getTodoInfo(jwtService.extractUserIdFromToken(authorizationHeader), mobileType, todoId);
+        TodoDetailResponseDto response = todoService.getTodoInfo(userId, mobileType, todoId);
+        return ApiResponse.onSuccess(SuccessStatus._OK, response);
+    }
+
+    /**
+     * 할 일 상세 일괄 조회 API.
+     * 여러 할 일의 세부 정보를 한 번에 조회합니다.
+     *
+     * @param userId 인증된 사용자 ID
+     * @param mobileType 클라이언트의 모바일 타입
+     * @param todoIds 조회할 할 일 ID 목록
+     * @return 할 일 상세 정보 목록
+     */
+    @GetMapping("/todos/details")
+    public ResponseEntity<ApiResponse<TodoDetailListResponseDto>> getTodoInfos(
+            @AuthUser Long userId,
+            @RequestHeader(value = "X-Mobile-Type", required = false, defaultValue = "ANDROID") MobileType mobileType,
+            @RequestParam List<Long> todoIds
+    ) {
+        TodoDetailListResponseDto response = todoService.getTodoInfos(userId, mobileType, todoIds);
         return ApiResponse.onSuccess(SuccessStatus._OK, response);
     }
 
@@ -119,18 +139,18 @@ public class TodoController {
      * 할 일 시간 업데이트 API.
      * 사용자가 특정 할 일의 시간을 업데이트합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 업데이트할 할 일 ID
      * @param timeUpdateRequestDto 시간 업데이트 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/time")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateTime(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId,
             @Valid @RequestBody TimeUpdateRequestDto timeUpdateRequestDto
     ) {
-        todoService.updateTime(jwtService.extractUserIdFromToken(authorizationHeader), todoId, timeUpdateRequestDto);
+        todoService.updateTime(userId, todoId, timeUpdateRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -138,18 +158,18 @@ public class TodoController {
      * 할 일 기한 업데이트 API.
      * 사용자가 특정 할 일의 마감 기한을 업데이트합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 업데이트할 할 일 ID
      * @param deadlineUpdateRequestDto 마감 기한 업데이트 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/deadline")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateDeadline(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId,
             @Valid @RequestBody DeadlineUpdateRequestDto deadlineUpdateRequestDto
     ) {
-        todoService.updateDeadline(jwtService.extractUserIdFromToken(authorizationHeader), todoId, deadlineUpdateRequestDto);
+        todoService.updateDeadline(userId, todoId, deadlineUpdateRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -158,18 +178,18 @@ public class TodoController {
      * 사용자가 특정 할 일에 반복할 요일을 등록합니다.
      * 요청된 요일 리스트로 기존 루틴을 대체합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 루틴을 등록할 할 일 ID
      * @param routineUpdateRequestDto 루틴 요일 등록 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PutMapping("/todo/{todoId}/routine")
     public ResponseEntity<ApiResponse<SuccessStatus>> createRoutine(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId,
             @Valid @RequestBody RoutineUpdateRequestDto routineUpdateRequestDto
     ) {
-        todoService.createRoutine(jwtService.extractUserIdFromToken(authorizationHeader), todoId, routineUpdateRequestDto);
+        todoService.createRoutine(userId, todoId, routineUpdateRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._CREATED);
     }
 
@@ -177,16 +197,16 @@ public class TodoController {
      * 할 일 루틴 삭제 API. (v1.3.0~)
      * 사용자가 특정 할 일의 루틴을 삭제합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 루틴을 삭제할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @DeleteMapping("/todo/{todoId}/routine")
     public ResponseEntity<ApiResponse<SuccessStatus>> deleteRoutine(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.deleteRoutine(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.deleteRoutine(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -194,18 +214,18 @@ public class TodoController {
      * 할 일 내용 수정 API.
      * 사용자가 특정 할 일의 내용을 수정합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 수정할 할 일 ID
      * @param contentUpdateRequestDto 내용 수정 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/content")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateContent(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId,
             @Valid @RequestBody ContentUpdateRequestDto contentUpdateRequestDto
     ) {
-        todoService.updateContent(jwtService.extractUserIdFromToken(authorizationHeader), todoId, contentUpdateRequestDto);
+        todoService.updateContent(userId, todoId, contentUpdateRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -213,16 +233,16 @@ public class TodoController {
      * 할 일 완료 상태 업데이트 API.
      * 사용자가 특정 할 일의 완료 상태를 업데이트합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 업데이트할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/achieve")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateIsCompleted(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.updateIsCompleted(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.updateIsCompleted(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -230,16 +250,16 @@ public class TodoController {
      * 어제 한 일 체크 API.
      * 사용자의 어제 한 일 중에서 완료된 항목을 체크하고, 미완료 항목을 백로그로 이동시킵니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param request 미완료 -> 완료로 변경된 todoId 리스트
      * @return 성공 여부 응답
      */
     @PostMapping("/todo/check/yesterdays")
     public ResponseEntity<ApiResponse<SuccessStatus>> checkYesterdayTodos(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @Valid @RequestBody CheckYesterdayTodosRequestDto request
     ) {
-        todoService.checkYesterdayTodos(jwtService.extractUserIdFromToken(authorizationHeader), request);
+        todoService.checkYesterdayTodos(userId, request);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -247,18 +267,18 @@ public class TodoController {
      * 할 일 카테고리 변경 API.
      * 사용자가 특정 할 일의 카테고리를 변경합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 변경할 할 일 ID
      * @param todoCategoryUpdateRequestDto 카테고리 변경 요청 데이터
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/category")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateCategory(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId,
             @Valid @RequestBody TodoCategoryUpdateRequestDto todoCategoryUpdateRequestDto
     ) {
-        todoService.updateCategory(jwtService.extractUserIdFromToken(authorizationHeader), todoId, todoCategoryUpdateRequestDto);
+        todoService.updateCategory(userId, todoId, todoCategoryUpdateRequestDto);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -266,16 +286,16 @@ public class TodoController {
      * 반복 설정 업데이트 API. (~v1.2.x)
      * 사용자가 특정 할 일의 반복 설정을 업데이트합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 업데이트할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @PatchMapping("/todo/{todoId}/repeat")
     public ResponseEntity<ApiResponse<SuccessStatus>> updateIsRepeat(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.updateIsRepeat(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.updateIsRepeat(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -283,16 +303,16 @@ public class TodoController {
      * 일반 반복 설정 등록 API. (v1.3.0~)
      * 특정 할 일의 일반 반복 설정을 등록합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 일반 반복 설정할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @PostMapping("/todo/{todoId}/repeat")
     public ResponseEntity<ApiResponse<SuccessStatus>> createIsRepeat(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.createIsRepeat(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.createIsRepeat(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -300,16 +320,16 @@ public class TodoController {
      * 일반 반복 설정 삭제 API. (v1.3.0~)
      * 특정 할 일의 일반 반복 설정을 삭제합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param todoId 일반 반복 설정을 삭제할 할 일 ID
      * @return 성공 여부를 나타내는 응답
      */
     @DeleteMapping("/todo/{todoId}/repeat")
     public ResponseEntity<ApiResponse<SuccessStatus>> deleteIsRepeat(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @PathVariable Long todoId
     ) {
-        todoService.deleteIsRepeat(jwtService.extractUserIdFromToken(authorizationHeader), todoId);
+        todoService.deleteIsRepeat(userId, todoId);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -317,7 +337,7 @@ public class TodoController {
      * 히스토리 조회 API.
      * 사용자가 특정 날짜의 할 일 히스토리를 조회합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param page 요청 페이지 번호 (기본값: 0)
      * @param size 한 페이지당 항목 수 (기본값: 15)
      * @param date 조회할 날짜
@@ -325,12 +345,34 @@ public class TodoController {
      */
     @GetMapping("/histories")
     public ResponseEntity<ApiResponse<PaginatedHistoryResponseDto>> getHistories(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "15") int size,
             @RequestParam LocalDate date
     ) {
-        PaginatedHistoryResponseDto response = todoService.getHistories(jwtService.extractUserIdFromToken(authorizationHeader), date, page, size);
+        PaginatedHistoryResponseDto response = todoService.getHistories(userId, date, page, size);
+        return ApiResponse.onSuccess(SuccessStatus._OK, response);
+    }
+
+    /**
+     * 히스토리 커서 조회 API.
+     * 사용자가 특정 날짜의 할 일 히스토리를 커서 기반으로 조회합니다.
+     * 이전 응답의 nextCursor를 전달하면 그 다음 항목부터 조회하며, 전체 페이지 수는 제공하지 않습니다.
+     *
+     * @param userId 인증된 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 조회 시 생략)
+     * @param size 조회할 항목 수 (기본값: 15)
+     * @param date 조회할 날짜
+     * @return 히스토리 목록 및 다음 커서 정보
+     */
+    @GetMapping("/histories/cursor")
+    public ResponseEntity<ApiResponse<CursorHistoryResponseDto>> getHistoriesByCursor(
+            @AuthUser Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "15") int size,
+            @RequestParam LocalDate date
+    ) {
+        CursorHistoryResponseDto response = todoService.getHistoriesByCursor(userId, date, cursor, size);
         return ApiResponse.onSuccess(SuccessStatus._OK, response);
     }
 
@@ -340,27 +382,27 @@ public class TodoController {
      * - 앱 버전이 V2 미만일 경우, 날짜 리스트를 감싼 응답 형식(`LegacyHistoryCalendarResponseDto`)으로 반환됩니다.
      * - 앱 버전이 V2 이상일 경우, 날짜별 히스토리 및 백로그 개수를 포함한 응답 형식(`HistoryCalendarListResponseDto`)으로 반환됩니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param appVersion 요청 헤더의 앱 버전 (예: V1, V2)
      * @param year 조회할 연도
-     * @param month 조회할 월
+     * @param month 조회할 월 (여러 달을 조회할 경우 시작 월)
+     * @param months 조회할 개월 수 (기본값 1, 최대 12)
      * @return 히스토리 캘린더 응답 (버전에 따라 서로 다른 DTO 반환)
      */
     @GetMapping("/calendar")
     public ResponseEntity<ApiResponse<Object>> getHistoryCalendarDateList(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestHeader(value = "X-App-Version", required = false, defaultValue = "V1") AppVersion appVersion,
             @RequestParam String year,
-            @RequestParam int month
+            @RequestParam int month,
+            @RequestParam(defaultValue = "1") int months
     ) {
-        Long userId = jwtService.extractUserIdFromToken(authorizationHeader);
-
         if (appVersion.isLegacy()) {
-            List<LocalDate> dates = todoService.getLegacyHistoriesCalendar(userId, year, month);
+            List<LocalDate> dates = todoService.getLegacyHistoriesCalendar(userId, year, month, months);
             return ApiResponse.onSuccess(SuccessStatus._OK, LegacyHistoryCalendarResponseDto.of(dates));
         }
 
-        HistoryCalendarListResponseDto response = todoService.getHistoriesCalendar(userId, year, month);
+        HistoryCalendarListResponseDto response = todoService.getHistoriesCalendar(userId, year, month, months);
         return ApiResponse.onSuccess(SuccessStatus._OK, response);
     }
 }
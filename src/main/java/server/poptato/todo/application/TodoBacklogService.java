@@ -4,37 +4,38 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.validator.CategoryValidator;
 import server.poptato.todo.api.request.BacklogCreateRequestDto;
 import server.poptato.todo.application.response.BacklogCreateResponseDto;
 import server.poptato.todo.application.response.BacklogListResponseDto;
 import server.poptato.todo.application.response.BacklogResponseDto;
+import server.poptato.todo.application.response.CursorBacklogListResponseDto;
 import server.poptato.todo.application.response.PaginatedYesterdayResponseDto;
-import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.RoutineRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.BacklogCursor;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.validator.UserValidator;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Transactional
 @RequiredArgsConstructor
 @Service
 public class TodoBacklogService {
     private final TodoRepository todoRepository;
-    private final CategoryRepository categoryRepository;
     private final RoutineRepository routineRepository;
     private final UserValidator userValidator;
     private final CategoryValidator categoryValidator;
+    private final TodoOrderService todoOrderService;
     private static final Long ALL_CATEGORY = -1L;
     private static final Long BOOKMARK_CATEGORY = 0L;
 
@@ -50,20 +51,20 @@ public class TodoBacklogService {
      */
     public BacklogListResponseDto getBacklogList(Long userId, Long categoryId, MobileType mobileType, int page, int size) {
         userValidator.checkIsExistUser(userId);
-        categoryValidator.validateCategory(userId, categoryId);
+        String categoryName = categoryValidator.validateAndReturnCategorySummary(userId, categoryId).name();
 
         Page<Todo> backlogs = getBacklogsPagination(userId, categoryId, page, size);
-        String categoryName = categoryRepository.findById(categoryId).get().getName();
+
+        Map<Long, List<String>> routineDaysByTodoId = routineRepository.findAllByTodoIdIn(
+                backlogs.getContent().stream().map(Todo::getId).toList()
+        );
 
         List<BacklogResponseDto> backlogDtos = backlogs.getContent().stream()
-                .map(todo -> {
-                    List<String> routineDays = routineRepository.findAllByTodoId(todo.getId())
-                            .stream()
-                            .map(Routine::getDay)
-                            .collect(Collectors.toList());
-
-                    return BacklogResponseDto.of(todo, mobileType, routineDays);
-                })
+                .map(todo -> BacklogResponseDto.of(
+                        todo,
+                        mobileType,
+                        routineDaysByTodoId.getOrDefault(todo.getId(), List.of())
+                ))
                 .toList();
 
         return BacklogListResponseDto.of(
@@ -74,6 +75,42 @@ public class TodoBacklogService {
         );
     }
 
+    /**
+     * 백로그 목록 커서 조회 메서드.
+     * 마지막으로 조회한 백로그의 (backlogOrder, id)를 커서로 사용하여 다음 목록을 반환합니다.
+     * 전체 개수를 세지 않으므로 스크롤 깊이와 무관하게 일정한 비용으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param categoryId 카테고리 ID
+     * @param cursor 이전 응답의 nextCursor (첫 조회 시 null)
+     * @param size 조회할 항목 수
+     * @return 백로그 목록과 다음 커서 정보
+     */
+    public CursorBacklogListResponseDto getBacklogListByCursor(Long userId, Long categoryId, MobileType mobileType, String cursor, int size) {
+        userValidator.checkIsExistUser(userId);
+        String categoryName = categoryValidator.validateAndReturnCategorySummary(userId, categoryId).name();
+
+        Slice<Todo> backlogs = getBacklogsSlice(userId, categoryId, BacklogCursor.decode(cursor), size);
+
+        Map<Long, List<String>> routineDaysByTodoId = routineRepository.findAllByTodoIdIn(
+                backlogs.getContent().stream().map(Todo::getId).toList()
+        );
+
+        List<BacklogResponseDto> backlogDtos = backlogs.getContent().stream()
+                .map(todo -> BacklogResponseDto.of(
+                        todo,
+                        mobileType,
+                        routineDaysByTodoId.getOrDefault(todo.getId(), List.of())
+                ))
+                .toList();
+
+        String nextCursor = backlogs.hasNext()
+                ? BacklogCursor.from(backlogs.getContent().get(backlogs.getNumberOfElements() - 1)).encode()
+                : null;
+
+        return CursorBacklogListResponseDto.of(categoryName, backlogDtos, nextCursor, backlogs.hasNext());
+    }
+
     /**
      * 백로그 생성 메서드.
      * 사용자 ID와 요청 데이터를 기반으로 새로운 백로그를 생성합니다.
@@ -85,8 +122,8 @@ public class TodoBacklogService {
     public BacklogCreateResponseDto createBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto) {
         userValidator.checkIsExistUser(userId);
         categoryValidator.validateCategory(userId, backlogCreateRequestDto.categoryId());
-        Integer maxBacklogOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId);
-        Todo newBacklog = createNewBacklog(userId, backlogCreateRequestDto, maxBacklogOrder);
+        int backlogOrder = todoOrderService.nextTopBacklogOrder(userId);
+        Todo newBacklog = createNewBacklog(userId, backlogCreateRequestDto, backlogOrder);
         return BacklogCreateResponseDto.from(newBacklog);
     }
 
@@ -119,8 +156,8 @@ public class TodoBacklogService {
     public BacklogCreateResponseDto createYesterdayBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto) {
         userValidator.checkIsExistUser(userId);
         categoryValidator.validateCategory(userId, backlogCreateRequestDto.categoryId());
-        Integer maxBacklogOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId);
-        Todo newYesterdayBacklog = Todo.createYesterdayBacklog(userId, backlogCreateRequestDto.content(), maxBacklogOrder);
+        int backlogOrder = todoOrderService.nextTopBacklogOrder(userId);
+        Todo newYesterdayBacklog = Todo.createYesterdayBacklog(userId, backlogCreateRequestDto.content(), backlogOrder);
         todoRepository.save(newYesterdayBacklog);
         return BacklogCreateResponseDto.from(newYesterdayBacklog);
     }
@@ -145,24 +182,44 @@ public class TodoBacklogService {
         return todoRepository.findBacklogsByCategoryId(userId, categoryId, type, status, pageRequest);
     }
 
+    /**
+     * 백로그 목록 커서 조회 메서드.
+     * 카테고리 ID에 따라 전체/중요/카테고리별 백로그를 커서 기준으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param categoryId 카테고리 ID
+     * @param cursor 조회 기준 커서
+     * @param size 조회할 항목 수
+     * @return 커서 이후의 백로그 목록
+     */
+    private Slice<Todo> getBacklogsSlice(Long userId, Long categoryId, BacklogCursor cursor, int size) {
+        Type type = Type.BACKLOG;
+        TodayStatus status = TodayStatus.COMPLETED;
+        if (Objects.equals(categoryId, ALL_CATEGORY))
+            return todoRepository.findAllBacklogsByCursor(userId, type, status, cursor, size);
+        if (Objects.equals(categoryId, BOOKMARK_CATEGORY))
+            return todoRepository.findBookmarkBacklogsByCursor(userId, type, status, cursor, size);
+        return todoRepository.findBacklogsByCategoryIdByCursor(userId, categoryId, type, status, cursor, size);
+    }
+
     /**
      * 새로운 백로그 생성 메서드.
      * 요청 데이터를 기반으로 백로그를 생성하고 저장합니다.
      *
      * @param userId 사용자 ID
      * @param backlogCreateRequestDto 백로그 생성 요청 데이터
-     * @param maxBacklogOrder 현재 백로그 최대 순서 값
+     * @param backlogOrder 새 백로그의 순서 값
      * @return 생성된 백로그 엔티티
      */
-    private Todo createNewBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto, Integer maxBacklogOrder) {
+    private Todo createNewBacklog(Long userId, BacklogCreateRequestDto backlogCreateRequestDto, Integer backlogOrder) {
         Todo backlog = null;
         Long categoryId = backlogCreateRequestDto.categoryId();
         if (Objects.equals(categoryId, ALL_CATEGORY)) {
-            backlog = Todo.createBacklog(userId, backlogCreateRequestDto.content(), maxBacklogOrder + 1);
+            backlog = Todo.createBacklog(userId, backlogCreateRequestDto.content(), backlogOrder);
         } else if (Objects.equals(categoryId, BOOKMARK_CATEGORY)) {
-            backlog = Todo.createBookmarkBacklog(userId, backlogCreateRequestDto.content(), maxBacklogOrder + 1);
+            backlog = Todo.createBookmarkBacklog(userId, backlogCreateRequestDto.content(), backlogOrder);
         } else if (categoryId > BOOKMARK_CATEGORY) {
-            backlog = Todo.createCategoryBacklog(userId, categoryId, backlogCreateRequestDto.content(), maxBacklogOrder + 1);
+            backlog = Todo.createCategoryBacklog(userId, categoryId, backlogCreateRequestDto.content(), backlogOrder);
         }
         return todoRepository.save(backlog);
     }
@@ -1,92 +1,150 @@
 package server.poptato.todo.application;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import server.poptato.global.batch.BatchRunSummary;
+import server.poptato.global.batch.IdRange;
+import server.poptato.global.batch.PartitionedBatchExecutor;
 import server.poptato.global.util.BatchUtil;
-import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.api.request.EventCreateRequestDto;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
-import server.poptato.todo.domain.value.TodayStatus;
-import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.repository.UserRepository;
 
 import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Locale;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TodoBatchService {
 
+    private static final String MIDNIGHT_JOB = "todo-midnight";
+    private static final String EVENT_TODO_JOB = "todo-event";
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
-    private final TodoService todoService;
+    private final TodoOrderService todoOrderService;
+    private final PartitionedBatchExecutor partitionedBatchExecutor;
+    private final CalendarSummaryRepository calendarSummaryRepository;
 
     @Value("${batch.size}")
     private int batchSize;
 
     /**
-     * 할 일의 상태(Type)를 업데이트하고 저장한다.
+     * 자정 할 일 작업을 사용자 ID 범위별 파티션으로 나누어 병렬 실행한다.
+     * 각 파티션은 아래 순서로 처리되며, 단계마다 별도의 트랜잭션을 사용한다.
+     * 1. 오늘(TODAY) 할 일 마감: 미완료 → 어제(YESTERDAY), 완료된 반복 할 일 → 백로그
+     * 2. 마감기한 또는 요일 반복이 오늘인 백로그 → 오늘(TODAY), 파티션 전체를 하나의 UPDATE 문으로 처리
+     * 각 UPDATE 전에 새 순서 값이 범위 끝에 닿는 사용자는 먼저 재정렬한다.
+     * 작업이 끝나면 할 일 타입 변경을 반영하도록 전체 사용자의 캘린더 요약을 무효화한다.
+     *
+     * @return 파티션별 결과를 합친 실행 요약
      */
-    @Transactional
-    public void updateTodayTodosAndSave() {
-        Map<Long, List<Todo>> userIdAndTodaysMap = updateTodayTodos();
-        saveUpdatedTodos(userIdAndTodaysMap);
+    public BatchRunSummary runMidnightJobs() {
+        LocalDate today = LocalDate.now();
+        String todayDay = today.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+        Long minUserId = userRepository.findMinUserId();
+        Long maxUserId = userRepository.findMaxUserId();
+        if (minUserId == null || maxUserId == null) {
+            return BatchRunSummary.empty(MIDNIGHT_JOB);
+        }
+
+        BatchRunSummary summary = partitionedBatchExecutor.execute(MIDNIGHT_JOB, new IdRange(minUserId, maxUserId), batchSize,
+                range -> runMidnightPartition(today, todayDay, range));
+        calendarSummaryRepository.evictAll();
+        return summary;
     }
 
     /**
-     * 오늘(TODAY) 상태의 할 일 중 완료 여부에 따라 상태를 변경한다.
-     * 완료된 반복 할 일은 백로그로 이동하며, 미완료된 할 일은 어제로 변경된다.
+     * 카테고리에 속한 할 일과 할 일에 딸린 루틴, 시간 알림, 달성 시각을 묶음 단위로 삭제한다.
+     * 묶음마다 별도의 트랜잭션으로 커밋하므로 할 일이 많은 카테고리도 잠금을 오래 잡지 않으며, 엔티티를 영속성 컨텍스트에 올리지 않는다.
+     * 호출하는 쪽에서 트랜잭션을 열면 묶음별로 커밋되지 않으므로 트랜잭션 밖에서 호출해야 한다.
      *
-     * @return 사용자 ID별 오늘의 할 일 목록
+     * @param categoryId 카테고리 ID
+     * @return 삭제한 할 일 수
      */
-    private Map<Long, List<Todo>> updateTodayTodos() {
-        Map<Long, List<Todo>> userIdAndTodayTodosMap = todoRepository.findByType(Type.TODAY)
-                .stream()
-                .collect(Collectors.groupingBy(Todo::getUserId));
+    public long deleteTodosByCategoryId(Long categoryId) {
+        return BatchUtil.forEachIdChunk(batchSize,
+                (lastTodoId, pageable) -> todoRepository.findIdsByCategoryIdAfter(categoryId, lastTodoId, pageable),
+                todoRepository::deleteAllWithDependents);
+    }
 
-        userIdAndTodayTodosMap.forEach((userId, todos) -> {
-            int startingOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(userId) + 1;
+    /**
+     * 전체 사용자에게 이벤트 오늘 할 일을 백그라운드에서 생성한다.
+     * 사용자 ID 범위별 파티션마다 하나의 INSERT ... SELECT 문으로 생성하며, 진행률은 파티션 단위로 로그에 남는다.
+     *
+     * @param request 이벤트 생성 요청 데이터
+     */
+    @Async
+    public void createEventTodayTodos(EventCreateRequestDto request) {
+        LocalDate today = LocalDate.now();
+        Long minUserId = userRepository.findMinUserId();
+        Long maxUserId = userRepository.findMaxUserId();
+        if (minUserId == null || maxUserId == null) {
+            return;
+        }
 
-            for (Todo todo : todos) {
-                if (todo.getTodayStatus() == TodayStatus.COMPLETED && (todo.isRepeat() || todo.isRoutine())) {
-                    // 완료된 반복 할 일 -> 백로그로 이동
-                    todo.updateType(Type.BACKLOG);
-                    todo.updateTodayStatus(null);
-                    todo.updateTodayOrder(null);
-                    todo.updateBacklogOrder(startingOrder++);
-                } else if (todo.getTodayStatus() == TodayStatus.INCOMPLETE) {
-                    // 이 외에는 YESTERDAY로 처리
-                    todo.updateType(Type.YESTERDAY);
-                    todo.updateTodayOrder(null);
-                    todo.updateBacklogOrder(startingOrder++);
+        partitionedBatchExecutor.execute(EVENT_TODO_JOB, new IdRange(minUserId, maxUserId), batchSize,
+                range -> BatchRunSummary.ofPartition(0, todoRepository.insertEventTodayTodos(
+                        range.fromId(), range.toId(),
+                        request.todoContent(), request.todoTime(), request.isBookmarked(), today)));
+    }
+
+    /**
+     * 순서 값의 간격이 소진되어 재정렬이 요청된 사용자의 할 일 순서를 다시 매긴다.
+     * 요청은 batchSize 명씩 꺼내 처리하며, 재정렬에 실패한 사용자는 다음 실행에서 다시 처리되도록 요청을 되돌린다.
+     */
+    public void rebalanceTodoOrders() {
+        List<Long> failedUserIds = new ArrayList<>();
+        List<Long> userIds;
+        while (!(userIds = todoOrderService.pollRebalanceRequests(batchSize)).isEmpty()) {
+            for (Long userId : userIds) {
+                try {
+                    todoOrderService.rebalance(userId);
+                } catch (RuntimeException e) {
+                    log.warn("[TodoOrder] userId={} 순서 재정렬 실패, 다음 실행에서 다시 시도합니다.", userId, e);
+                    failedUserIds.add(userId);
                 }
             }
-        });
-
-        return userIdAndTodayTodosMap;
+        }
+        failedUserIds.forEach(todoOrderService::requestRebalance);
     }
 
     /**
-     * 업데이트된 할 일을 한 번에 저장한다.
+     * 일괄 UPDATE 로 부여할 순서 값이 범위를 넘는 사용자의 순서를 먼저 다시 매긴다.
+     * 한 사용자라도 INT 범위를 넘으면 파티션 전체 UPDATE 가 실패하므로 UPDATE 전에 처리한다.
+     *
+     * @param userIds 재정렬할 사용자 ID 목록
      */
-    private void saveUpdatedTodos(Map<Long, List<Todo>> userIdAndTodaysMap) {
-        userIdAndTodaysMap.values().stream()
-                .flatMap(List::stream)
-                .forEach(todoRepository::save);
+    private void rebalanceBeforeUpdate(List<Long> userIds) {
+        userIds.forEach(todoOrderService::rebalance);
     }
 
     /**
-     * 마감기한 또는 요일 반복이 설정된 할 일 -> 오늘(TODAY)로 변경한다.
+     * 하나의 사용자 ID 범위에 대해 자정 할 일 작업을 실행한다.
+     *
+     * @param today 오늘 날짜
+     * @param todayDay 오늘 요일 (예: 월)
+     * @param range 사용자 ID 범위
+     * @return 파티션 실행 결과
      */
-    public void updateDeadlineTodos() {
-        LocalDate today = LocalDate.now();
-        List<Long> userIds = userRepository.findAllUserIds();
+    private BatchRunSummary runMidnightPartition(LocalDate today, String todayDay, IdRange range) {
+        List<Long> userIds = userRepository.findUserIdsBetween(range.fromId(), range.toId());
+        if (userIds.isEmpty()) {
+            return BatchRunSummary.ofPartition(0, 0);
+        }
 
-        BatchUtil.splitIntoBatches(userIds, batchSize).forEach(batch -> {
-            todoService.processUpdateDeadlineTodos(today, batch);
-        });
+        rebalanceBeforeUpdate(todoRepository.findUserIdsWithoutRolloverRoom(userIds));
+        int rolledOverCount = todoRepository.rolloverTodayTodos(userIds);
+        rebalanceBeforeUpdate(todoRepository.findUserIdsWithoutPromotionRoom(userIds, today, todayDay));
+        int promotedCount = todoRepository.promoteDueTodos(userIds, today, todayDay);
+        return BatchRunSummary.ofPartition(userIds.size(), rolledOverCount + promotedCount);
     }
 }
@@ -0,0 +1,150 @@
+package server.poptato.todo.application;
+
+import jakarta.persistence.Tuple;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.global.exception.CustomException;
+import server.poptato.todo.domain.projection.RoutineCountProjection;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.RoutineRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.CalendarSummary;
+import server.poptato.todo.status.TodoErrorStatus;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 히스토리 캘린더 조회 서비스.
+ * 캘린더 값은 {@link CalendarSummaryRepository}의 사용자별 요약에서 계산하므로, 요약이 있는 월은 집계 쿼리 없이 조회 기간의 날짜 수만큼만 처리합니다.
+ * 요약이 없는 월만 DB에서 집계하여 요약을 만들고, 이후 변경 사항은 {@link server.poptato.todo.application.event.CalendarChangeEvent}로 반영됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoCalendarService {
+
+    private static final int MAX_CALENDAR_MONTHS = 12;
+
+    private final CalendarSummaryRepository calendarSummaryRepository;
+    private final TodoRepository todoRepository;
+    private final RoutineRepository routineRepository;
+    private final CompletedDateTimeRepository completedDateTimeRepository;
+
+    /**
+     * 조회 기간의 날짜별 캘린더 값을 계산합니다.
+     * - 완료 히스토리가 있는 날짜: -1
+     * - 완료 히스토리가 없는 내일 이후 날짜: 백로그 마감 개수 + 요일 반복(루틴) 개수 (0이면 제외)
+     *
+     * @param userId 사용자 ID
+     * @param startMonth 조회 시작 월
+     * @param months 조회할 개월 수
+     * @return 날짜별 캘린더 값
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getCalendarCounts(Long userId, YearMonth startMonth, int months) {
+        List<YearMonth> range = toMonths(startMonth, months);
+        CalendarSummary summary = loadSummary(userId, range);
+        LocalDate today = LocalDate.now();
+
+        Map<LocalDate, Integer> resultByDate = new HashMap<>();
+        LocalDate lastDay = range.get(range.size() - 1).atEndOfMonth();
+        for (LocalDate date = startMonth.atDay(1); !date.isAfter(lastDay); date = date.plusDays(1)) {
+            if (summary.historyCounts().containsKey(date)) {
+                resultByDate.put(date, -1);
+                continue;
+            }
+            if (date.isAfter(today)) {
+                int sum = summary.backlogCounts().getOrDefault(date, 0)
+                        + summary.routineCounts().getOrDefault(toDay(date), 0);
+                if (sum > 0) {
+                    resultByDate.put(date, sum);
+                }
+            }
+        }
+        return resultByDate;
+    }
+
+    /**
+     * 조회 기간 중 완료 히스토리가 있는 날짜 목록을 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param startMonth 조회 시작 월
+     * @param months 조회할 개월 수
+     * @return 히스토리가 있는 날짜 목록 (오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<LocalDate> getHistoryDates(Long userId, YearMonth startMonth, int months) {
+        CalendarSummary summary = loadSummary(userId, toMonths(startMonth, months));
+        return summary.historyCounts().keySet().stream()
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * 캘린더 요약을 조회하고, 요약이 없는 월과 루틴 개수는 DB에서 집계하여 저장합니다.
+     * 집계 전에 적재 토큰을 기록하므로, 집계 중 커밋된 변경이 있으면 저장이 거절되고 다음 조회 시 다시 집계합니다.
+     */
+    private CalendarSummary loadSummary(Long userId, List<YearMonth> range) {
+        CalendarSummary summary = calendarSummaryRepository.find(userId, range);
+        if (summary.isComplete()) {
+            return summary;
+        }
+
+        String loadToken = calendarSummaryRepository.beginLoad(userId, summary.missingMonths(), !summary.routineLoaded());
+        Map<LocalDate, Integer> loadedHistoryCounts = new HashMap<>();
+        Map<LocalDate, Integer> loadedBacklogCounts = new HashMap<>();
+        for (YearMonth month : summary.missingMonths()) {
+            Map<LocalDate, Integer> historyCounts = toDateCounts(completedDateTimeRepository.findDatesWithHistoryCount(
+                    userId, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+            Map<LocalDate, Integer> backlogCounts = toDateCounts(todoRepository.findDatesWithBacklogCount(
+                    userId, month.atDay(1), month.plusMonths(1).atDay(1)));
+            calendarSummaryRepository.saveMonth(userId, month, loadToken, historyCounts, backlogCounts);
+            loadedHistoryCounts.putAll(historyCounts);
+            loadedBacklogCounts.putAll(backlogCounts);
+        }
+
+        Map<String, Integer> loadedRoutineCounts = null;
+        if (!summary.routineLoaded()) {
+            loadedRoutineCounts = routineRepository.countRoutinesByDay(userId).stream()
+                    .collect(Collectors.toMap(
+                            RoutineCountProjection::getDay,
+                            p -> p.getCount().intValue()
+                    ));
+            calendarSummaryRepository.saveRoutineCounts(userId, loadToken, loadedRoutineCounts);
+        }
+        return summary.merge(loadedHistoryCounts, loadedBacklogCounts, loadedRoutineCounts);
+    }
+
+    private List<YearMonth> toMonths(YearMonth startMonth, int months) {
+        if (months < 1 || months > MAX_CALENDAR_MONTHS) {
+            throw new CustomException(TodoErrorStatus._INVALID_CALENDAR_RANGE);
+        }
+        List<YearMonth> range = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            range.add(startMonth.plusMonths(i));
+        }
+        return range;
+    }
+
+    private Map<LocalDate, Integer> toDateCounts(List<Tuple> tuples) {
+        return tuples.stream()
+                .collect(Collectors.toMap(
+                        t -> ((Date) t.get("date")).toLocalDate(),
+                        t -> ((Number) t.get("count")).intValue()
+                ));
+    }
+
+    private String toDay(LocalDate date) {
+        return date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+    }
+}
@@ -0,0 +1,231 @@
+package server.poptato.todo.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.repository.TodoRebalanceRequestRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.OrderRank;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 할 일의 정렬 순서(todayOrder, backlogOrder)를 계산하고 재정렬하는 서비스.
+ * 순서 값은 {@link OrderRank}의 간격 기반 규칙을 따르며, 순서 계산에 집계 쿼리를 사용하지 않습니다.
+ * 재정렬 요청은 {@link TodoRebalanceRequestRepository}에 보관되어 서버 재시작이나 인스턴스와 무관하게 배치에서 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoOrderService {
+
+    private final TodoRepository todoRepository;
+    private final TodoRebalanceRequestRepository todoRebalanceRequestRepository;
+
+    /**
+     * 오늘 할 일 목록의 가장 위에 놓일 순서 값을 반환합니다.
+     * 위쪽 간격이 모두 소진되었다면 즉시 재정렬한 뒤 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 새 todayOrder
+     */
+    public int nextTopTodayOrder(Long userId) {
+        Integer top = todoRepository.findTopTodayOrder(userId).orElse(null);
+        if (!OrderRank.hasRoomAbove(top)) {
+            top = rebalanceAndFind(userId, todoRepository::findTopTodayOrder);
+        }
+        return checkCrowded(userId, OrderRank.above(top));
+    }
+
+    /**
+     * 오늘 할 일 목록의 가장 위에 차례로 쌓일 count 개의 순서 값을 반환합니다.
+     * count 개를 모두 놓을 간격이 없다면 먼저 재정렬한 뒤 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @param count 필요한 순서 값 개수
+     * @return 오름차순 todayOrder 목록 (뒤에 있는 값일수록 위에 놓입니다)
+     */
+    public List<Integer> nextTopTodayOrders(Long userId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        Integer top = todoRepository.findTopTodayOrder(userId).orElse(null);
+        if (!OrderRank.hasRoomAbove(top, count)) {
+            top = rebalanceAndFind(userId, todoRepository::findTopTodayOrder);
+        }
+        List<Integer> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            top = OrderRank.above(top);
+            orders.add(top);
+        }
+        checkCrowded(userId, top);
+        return orders;
+    }
+
+    /**
+     * 오늘 할 일 목록의 가장 아래에 놓일 순서 값을 반환합니다.
+     * 아래쪽 간격이 모두 소진되었다면 즉시 재정렬한 뒤 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 새 todayOrder
+     */
+    public int nextBottomTodayOrder(Long userId) {
+        Integer bottom = todoRepository.findBottomTodayOrder(userId).orElse(null);
+        if (!OrderRank.hasRoomBelow(bottom)) {
+            bottom = rebalanceAndFind(userId, todoRepository::findBottomTodayOrder);
+        }
+        return checkCrowded(userId, OrderRank.below(bottom));
+    }
+
+    /**
+     * 백로그 목록의 가장 위에 놓일 순서 값을 반환합니다.
+     * 위쪽 간격이 모두 소진되었다면 즉시 재정렬한 뒤 계산합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 새 backlogOrder
+     */
+    public int nextTopBacklogOrder(Long userId) {
+        Integer top = todoRepository.findTopBacklogOrder(userId).orElse(null);
+        if (!OrderRank.hasRoomAbove(top)) {
+            top = rebalanceAndFind(userId, todoRepository::findTopBacklogOrder);
+        }
+        return checkCrowded(userId, OrderRank.above(top));
+    }
+
+    /**
+     * 드래그 앤 드롭으로 전달된 순서대로 할 일의 순서 값을 변경합니다.
+     * - 위치가 바뀐 할 일만 앞뒤 이웃 사이의 값으로 변경되므로, 일반적인 한 칸 이동은 한 행만 수정됩니다.
+     * - 변경된 순서 값은 하나의 UPDATE 문으로 반영합니다.
+     * - 이웃 사이에 간격이 남아 있지 않으면 기존 순서 값을 재배치하고, 해당 사용자를 재정렬 대상으로 등록합니다.
+     * - 완료된 할 일은 순서를 변경하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param type 목록 타입 (TODAY, BACKLOG)
+     * @param todos 요청 순서대로 나열된 할 일 목록
+     */
+    public void reorder(Long userId, Type type, List<Todo> todos) {
+        if (Type.TODAY == type) {
+            todoRepository.updateTodayOrders(reorder(userId, todos, Todo::getTodayOrder, true));
+        } else if (Type.BACKLOG == type) {
+            todoRepository.updateBacklogOrders(reorder(userId, todos, Todo::getBacklogOrder, false));
+        }
+    }
+
+    /**
+     * 재정렬이 필요한 사용자로 등록합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void requestRebalance(Long userId) {
+        todoRebalanceRequestRepository.save(userId);
+    }
+
+    /**
+     * 재정렬이 요청된 사용자를 최대 count 명까지 꺼냅니다. 꺼낸 사용자는 요청 목록에서 제거됩니다.
+     *
+     * @param count 꺼낼 최대 사용자 수
+     * @return 재정렬 대상 사용자 ID 목록 (요청이 없으면 빈 목록)
+     */
+    public List<Long> pollRebalanceRequests(int count) {
+        return todoRebalanceRequestRepository.pop(count);
+    }
+
+    /**
+     * 사용자의 오늘/백로그 순서 값을 현재 순서를 유지한 채 GAP 간격으로 다시 매깁니다.
+     *
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void rebalance(Long userId) {
+        todoRepository.updateTodayOrders(respace(todoRepository.findAllTodayOrdered(userId)));
+        todoRepository.updateBacklogOrders(respace(todoRepository.findAllBacklogOrdered(userId)));
+        log.info("[TodoOrder] userId={} 순서 재정렬 완료", userId);
+    }
+
+    /**
+     * 드래그 앤 드롭 순서 변경의 공통 처리.
+     *
+     * @param userId 사용자 ID
+     * @param todos 요청 순서대로 나열된 할 일 목록
+     * @param getOrder 각 할 일의 기존 순서를 가져오는 함수
+     * @param isToday 오늘 할 일 목록 여부
+     * @return 순서가 바뀐 할 일 ID별 새 순서 값
+     */
+    private Map<Long, Integer> reorder(Long userId,
+                                       List<Todo> todos,
+                                       Function<Todo, Integer> getOrder,
+                                       boolean isToday) {
+        List<Todo> orderedTodos = todos.stream()
+                .filter(todo -> TodayStatus.COMPLETED != todo.getTodayStatus())
+                .filter(todo -> getOrder.apply(todo) != null)
+                .toList();
+        if (orderedTodos.size() < 2) {
+            return Map.of();
+        }
+
+        int[] currentOrders = orderedTodos.stream()
+                .mapToInt(getOrder::apply)
+                .toArray();
+        int maxOrder = Arrays.stream(currentOrders).max().getAsInt();
+        int minOrder = Arrays.stream(currentOrders).min().getAsInt();
+        Integer ceiling = (isToday
+                ? todoRepository.findTodayOrderAbove(userId, maxOrder)
+                : todoRepository.findBacklogOrderAbove(userId, maxOrder)).orElse(null);
+        Integer floor = (isToday
+                ? todoRepository.findTodayOrderBelow(userId, minOrder)
+                : todoRepository.findBacklogOrderBelow(userId, minOrder)).orElse(null);
+
+        int[] newOrders = OrderRank.reorder(currentOrders, ceiling, floor);
+        if (newOrders == null) {
+            // 간격이 부족하면 기존 순서 값을 내림차순으로 재배치
+            newOrders = Arrays.stream(currentOrders).boxed()
+                    .sorted(Collections.reverseOrder())
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            requestRebalance(userId);
+        }
+
+        Map<Long, Integer> changedOrders = new HashMap<>();
+        for (int index = 0; index < orderedTodos.size(); index++) {
+            Todo todo = orderedTodos.get(index);
+            if (!Objects.equals(getOrder.apply(todo), newOrders[index])) {
+                changedOrders.put(todo.getId(), newOrders[index]);
+            }
+        }
+        return changedOrders;
+    }
+
+    private Map<Long, Integer> respace(List<Todo> todos) {
+        List<Integer> orders = OrderRank.spaced(todos.size());
+        Map<Long, Integer> newOrders = new HashMap<>();
+        for (int index = 0; index < todos.size(); index++) {
+            newOrders.put(todos.get(index).getId(), orders.get(index));
+        }
+        return newOrders;
+    }
+
+    private Integer rebalanceAndFind(Long userId, Function<Long, Optional<Integer>> findOrder) {
+        log.warn("[TodoOrder] userId={} 순서 값 간격 소진, 즉시 재정렬합니다.", userId);
+        rebalance(userId);
+        return findOrder.apply(userId).orElse(null);
+    }
+
+    private int checkCrowded(Long userId, int order) {
+        if (OrderRank.isCrowded(order)) {
+            requestRebalance(userId);
+        }
+        return order;
+    }
+}
@@ -17,7 +17,7 @@ public class TodoScheduler {
     @Async
     @Scheduled(cron = "${scheduling.todoCron}")
     public void updateTodoType() {
-        todoBatchService.updateTodayTodosAndSave();
-        todoBatchService.updateDeadlineTodos();
+        todoBatchService.runMidnightJobs();
+        todoBatchService.rebalanceTodoOrders();
     }
 }
@@ -1,41 +1,34 @@
 package server.poptato.todo.application;
 
-import java.sql.Date;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
-import server.poptato.category.domain.entity.Category;
-import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.category.validator.CategoryValidator;
-import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.global.exception.CustomException;
-import server.poptato.global.util.FileUtil;
+import server.poptato.global.response.status.ErrorStatus;
 import server.poptato.todo.api.request.CheckYesterdayTodosRequestDto;
 import server.poptato.todo.api.request.ContentUpdateRequestDto;
 import server.poptato.todo.api.request.DeadlineUpdateRequestDto;
@@ -44,18 +37,27 @@ import server.poptato.todo.api.request.SwipeRequestDto;
 import server.poptato.todo.api.request.TimeUpdateRequestDto;
 import server.poptato.todo.api.request.TodoCategoryUpdateRequestDto;
 import server.poptato.todo.api.request.TodoDragAndDropRequestDto;
+import server.poptato.todo.application.event.CalendarChangeEvent;
+import server.poptato.todo.application.response.CursorHistoryResponseDto;
 import server.poptato.todo.application.response.HistoryCalendarListResponseDto;
+import server.poptato.todo.application.response.HistoryResponseDto;
 import server.poptato.todo.application.response.PaginatedHistoryResponseDto;
+import server.poptato.todo.application.response.TodoDetailItemResponseDto;
+import server.poptato.todo.application.response.TodoDetailListResponseDto;
 import server.poptato.todo.application.response.TodoDetailResponseDto;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.entity.TimeAlarm;
 import server.poptato.todo.domain.entity.Todo;
-import server.poptato.todo.domain.projection.RoutineCountProjection;
+import server.poptato.todo.domain.projection.HistoryProjection;
+import server.poptato.todo.domain.projection.TodoDetailProjection;
 import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
 import server.poptato.todo.domain.repository.RoutineRepository;
 import server.poptato.todo.domain.repository.TimeAlarmRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.HistoryCursor;
+import server.poptato.todo.domain.value.PlanHistoryCursor;
+import server.poptato.todo.domain.value.TodayHistoryCursor;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.todo.status.TodoErrorStatus;
@@ -65,14 +67,17 @@ import server.poptato.user.validator.UserValidator;
 @RequiredArgsConstructor
 @Service
 public class TodoService {
+    private static final int MAX_DETAIL_TODO_IDS = 50;
+
     private final UserValidator userValidator;
     private final CategoryValidator categoryValidator;
     private final TodoRepository todoRepository;
     private final TimeAlarmRepository timeAlarmRepository;
     private final RoutineRepository routineRepository;
     private final CompletedDateTimeRepository completedDateTimeRepository;
-    private final CategoryRepository categoryRepository;
-    private final EmojiRepository emojiRepository;
+    private final TodoOrderService todoOrderService;
+    private final TodoCalendarService todoCalendarService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -89,6 +94,7 @@ public class TodoService {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
         todoRepository.delete(findTodo);
+        eventPublisher.publishEvent(CalendarChangeEvent.reset(userId));
     }
 
     /**
@@ -134,6 +140,7 @@ public class TodoService {
         } else if (Type.BACKLOG == findTodo.getType()) {
             swipeBacklogToToday(findTodo);
         }
+        eventPublisher.publishEvent(CalendarChangeEvent.reset(userId));
     }
 
     /**
@@ -142,8 +149,7 @@ public class TodoService {
      * @param todo 변경할 할 일 객체
      */
     private void swipeBacklogToToday(Todo todo) {
-        Integer maxTodayOrder = todoRepository.findMaxTodayOrderByUserIdOrZero(todo.getUserId());
-        todo.changeToToday(maxTodayOrder);
+        todo.changeToToday(todoOrderService.nextTopTodayOrder(todo.getUserId()));
     }
 
     /**
@@ -155,12 +161,12 @@ public class TodoService {
         if (TodayStatus.COMPLETED == todo.getTodayStatus()) {
             throw new CustomException(TodoErrorStatus._ALREADY_COMPLETED_TODO);
         }
-        Integer maxBacklogOrder = todoRepository.findMaxBacklogOrderByUserIdOrZero(todo.getUserId());
-        todo.changeToBacklog(maxBacklogOrder);
+        todo.changeToBacklog(todoOrderService.nextTopBacklogOrder(todo.getUserId()));
     }
 
     /**
      * 할 일의 순서를 드래그 앤 드롭 방식으로 변경합니다.
+     * 대상 할 일을 한 번에 조회하고, 위치가 바뀐 할 일만 앞뒤 이웃 사이의 순서 값으로 변경됩니다.
      *
      * @param userId 사용자 ID
      * @param requestDto 순서 변경 요청 데이터
@@ -169,10 +175,15 @@ public class TodoService {
     public void dragAndDrop(Long userId, TodoDragAndDropRequestDto requestDto) {
         userValidator.checkIsExistUser(userId);
 
+        Map<Long, Todo> todosById = todoRepository.findAllById(requestDto.todoIds()).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
         List<Todo> todos = requestDto.todoIds().stream()
                 .map(todoId -> {
-                    Todo todo = todoRepository.findById(todoId)
-                            .orElseThrow(() -> new CustomException(TodoErrorStatus._TODO_NOT_EXIST));
+                    Todo todo = todosById.get(todoId);
+                    if (todo == null) {
+                        throw new CustomException(TodoErrorStatus._TODO_NOT_EXIST);
+                    }
                     if (!todo.getUserId().equals(userId)) {
                         // 사용자의 할 일이 아닌 경우
                         throw new CustomException(TodoErrorStatus._TODO_USER_NOT_MATCH);
@@ -181,70 +192,54 @@ public class TodoService {
                 })
                 .toList();
 
-        if (Type.TODAY == requestDto.type()) {
-            reassignOrder(todos, Todo::getTodayOrder, Todo::updateTodayOrder);
-        } else if (Type.BACKLOG == requestDto.type()) {
-            reassignOrder(todos, Todo::getBacklogOrder, Todo::updateBacklogOrder);
-        }
+        todoOrderService.reorder(userId, requestDto.type(), todos);
     }
 
     /**
-     * 할 일 목록의 정렬 순서를 재할당하는 공통 메서드.
+     * 특정 할 일의 상세 정보를 조회합니다.
+     * 할 일, 카테고리 이름, 이모지 URL, 루틴 요일을 소유권 조건과 함께 하나의 쿼리로 조회합니다.
      *
-     * @param todos 재할당할 할 일 목록
-     * @param getOrder 각 할 일의 기존 순서를 가져오는 함수
-     * @param setOrder 각 할 일에 새로운 순서를 설정하는 함수
+     * @param userId 사용자 ID
+     * @param todoId 조회할 할 일 ID
+     * @return 할 일 상세 정보
      */
-    private void reassignOrder(List<Todo> todos,
-                               Function<Todo, Integer> getOrder,
-                               BiConsumer<Todo, Integer> setOrder) {
-        // 기존 순서를 가져와 내림차순으로 정렬
-        List<Integer> newOrders = todos.stream()
-                .map(todo -> {
-                    if (TodayStatus.COMPLETED == todo.getTodayStatus()) {
-                        // 완료된 할 일은 순서를 -1로 설정
-                        return -1;
-                    }
-                    return getOrder.apply(todo);
-                })
-                .sorted(Collections.reverseOrder())
-                .toList();
-
-        // 정렬된 순서를 각 할 일에 재할당하고 저장
-        for (int todoIndex = 0; todoIndex < todos.size(); todoIndex++) {
-            Todo todo = todos.get(todoIndex);
-            if (TodayStatus.COMPLETED == todo.getTodayStatus()) {
-                // 완료된 할 일은 순서 수정 x
-                continue;
-            }
-            setOrder.accept(todo, newOrders.get(todoIndex));
-            todoRepository.save(todo);
+    @Transactional(readOnly = true)
+    public TodoDetailResponseDto getTodoInfo(Long userId, MobileType mobileType, Long todoId) {
+        List<TodoDetailProjection> details = todoRepository.findTodoDetails(userId, List.of(todoId));
+        if (details.isEmpty()) {
+            // 조회 결과가 없을 때만 기존 검증으로 사용자/할 일/소유권 중 실패 원인을 구분
+            userValidator.checkIsExistUser(userId);
+            validateAndReturnTodo(userId, todoId);
+            throw new CustomException(TodoErrorStatus._TODO_NOT_EXIST);
         }
+        return TodoDetailResponseDto.of(details.get(0), mobileType);
     }
 
     /**
-     * 특정 할 일의 상세 정보를 조회합니다.
+     * 여러 할 일의 상세 정보를 한 번에 조회합니다.
+     * 존재하지 않거나 사용자의 할 일이 아닌 ID는 결과에서 제외되며, 결과는 요청한 ID 순서를 따릅니다.
      *
      * @param userId 사용자 ID
-     * @param todoId 조회할 할 일 ID
-     * @return 할 일 상세 정보
+     * @param mobileType 클라이언트의 모바일 타입
+     * @param todoIds 조회할 할 일 ID 목록
+     * @return 할 일 상세 정보 목록
      */
     @Transactional(readOnly = true)
-    public TodoDetailResponseDto getTodoInfo(Long userId, MobileType mobileType, Long todoId) {
+    public TodoDetailListResponseDto getTodoInfos(Long userId, MobileType mobileType, List<Long> todoIds) {
+        if (todoIds == null || todoIds.isEmpty() || todoIds.size() > MAX_DETAIL_TODO_IDS) {
+            throw new CustomException(TodoErrorStatus._INVALID_TODO_IDS);
+        }
         userValidator.checkIsExistUser(userId);
-        String imageUrlExtension = mobileType.getImageUrlExtension();
-        Todo findTodo = validateAndReturnTodo(userId, todoId);
-        Category findCategory = findTodo.getCategoryId() != null ?
-                categoryRepository.findById(findTodo.getCategoryId()).orElse(null) : null;
-        Emoji findEmoji = findCategory != null && findCategory.getEmojiId() != null ?
-                emojiRepository.findById(findCategory.getEmojiId()).orElse(null) : null;
-        String modifiedImageUrl = findEmoji != null && findEmoji.getImageUrl() != null ?
-                FileUtil.changeFileExtension(findEmoji.getImageUrl(), imageUrlExtension) : null;
-        List<String> routineDays = routineRepository.findAllByTodoId(todoId).stream()
-                .map(Routine::getDay)
-                .toList();
+        Map<Long, TodoDetailProjection> detailsByTodoId = todoRepository.findTodoDetails(userId, todoIds).stream()
+                .collect(Collectors.toMap(TodoDetailProjection::getTodoId, Function.identity()));
 
-        return TodoDetailResponseDto.of(findTodo, findCategory, modifiedImageUrl, routineDays);
+        List<TodoDetailItemResponseDto> todoDetails = todoIds.stream()
+                .distinct()
+                .map(detailsByTodoId::get)
+                .filter(Objects::nonNull)
+                .map(detail -> TodoDetailItemResponseDto.of(detail, mobileType))
+                .toList();
+        return new TodoDetailListResponseDto(todoDetails);
     }
 
     /**
@@ -286,7 +281,11 @@ public class TodoService {
     public void updateDeadline(Long userId, Long todoId, DeadlineUpdateRequestDto requestDto) {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
+        LocalDate oldDeadline = findTodo.getDeadline();
         findTodo.updateDeadline(requestDto.deadline());
+        if (Type.BACKLOG == findTodo.getType()) {
+            eventPublisher.publishEvent(CalendarChangeEvent.deadlineChanged(userId, oldDeadline, requestDto.deadline()));
+        }
     }
 
     /**
@@ -300,11 +299,15 @@ public class TodoService {
     public void createRoutine(Long userId, Long todoId, RoutineUpdateRequestDto requestDto) {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
+        List<String> oldDays = findRoutineDaysIfCounted(findTodo);
         findTodo.setRoutine(true);
         findTodo.setRepeat(false);
 
         routineRepository.deleteByTodoId(todoId);
         List<String> newDays = requestDto.routineDays();
+        if (Type.BACKLOG == findTodo.getType()) {
+            eventPublisher.publishEvent(CalendarChangeEvent.routineChanged(userId, oldDays, newDays));
+        }
         if (!newDays.isEmpty()) {
             List<Routine> routineDays = newDays.stream()
                     .map(day -> Routine.builder()
@@ -326,8 +329,25 @@ public class TodoService {
     public void deleteRoutine(Long userId, Long todoId) {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
+        List<String> oldDays = findRoutineDaysIfCounted(findTodo);
         findTodo.setRoutine(false);
         routineRepository.deleteByTodoId(todoId);
+        eventPublisher.publishEvent(CalendarChangeEvent.routineChanged(userId, oldDays, List.of()));
+    }
+
+    /**
+     * 캘린더의 요일별 루틴 개수에 포함된 할 일(루틴이 설정된 백로그)이라면 루틴 요일 목록을 반환합니다.
+     *
+     * @param todo 대상 할 일
+     * @return 루틴 요일 목록, 포함되지 않는 할 일이면 빈 목록
+     */
+    private List<String> findRoutineDaysIfCounted(Todo todo) {
+        if (!todo.isRoutine() || Type.BACKLOG != todo.getType()) {
+            return List.of();
+        }
+        return routineRepository.findAllByTodoId(todo.getId()).stream()
+                .map(Routine::getDay)
+                .toList();
     }
 
     /**
@@ -370,23 +390,26 @@ public class TodoService {
         if (TodayStatus.INCOMPLETE.equals(status)) {
             // 오늘 완료 상태로 변경하고 현재 시간을 완료 시간으로 저장
             findTodo.completeTodayTodo();
+            LocalDateTime completedAt = LocalDateTime.now();
             completedDateTimeRepository.save(
                     CompletedDateTime.builder()
                             .todoId(findTodo.getId())
-                            .dateTime(LocalDateTime.now())
+                            .dateTime(completedAt)
                             .build()
             );
+            eventPublisher.publishEvent(CalendarChangeEvent.completed(findTodo.getUserId(), completedAt.toLocalDate()));
 
         } else if (TodayStatus.COMPLETED.equals(status)) {
-            // 미완료로 변경하며, 오늘의 최소 순서를 가져와 반영
-            Integer minTodayOrder = todoRepository.findMinTodayOrderByUserIdOrZero(findTodo.getUserId());
-            findTodo.incompleteTodayTodo(minTodayOrder);
+            // 미완료로 변경하며, 미완료 목록의 가장 아래 순서를 반영
+            findTodo.incompleteTodayTodo(todoOrderService.nextBottomTodayOrder(findTodo.getUserId()));
 
             // 기존 완료 기록이 존재하면 삭제, 없으면 예외 발생
             CompletedDateTime completedDateTime = completedDateTimeRepository
                     .findByTodoIdAndDate(findTodo.getId(), findTodo.getTodayDate())
                     .orElseThrow(() -> new CustomException(TodoErrorStatus._COMPLETED_DATETIME_NOT_EXIST));
             completedDateTimeRepository.delete(completedDateTime);
+            eventPublisher.publishEvent(CalendarChangeEvent.incompleted(
+                    findTodo.getUserId(), completedDateTime.getDateTime().toLocalDate()));
         }
     }
 
@@ -409,8 +432,10 @@ public class TodoService {
         // 1. 체크된 할 일들 (미완료 -> 완료)
         List<Todo> completedTodos = allYesterdays.stream()
                 .filter(todo -> checkedTodoIds.contains(todo.getId()))
-                .peek(this::updateYesterdayIsCompleted)
                 .toList();
+        completedDateTimeRepository.insertAll(completedTodos.stream()
+                .map(this::updateYesterdayIsCompleted)
+                .toList());
 
         // 2. 체크되지 않은 할 일들 분기 처리
         List<Todo> backloggedTodos = new ArrayList<>();
@@ -437,6 +462,7 @@ public class TodoService {
         //  1) 오늘 날짜 == 마감 기한
         //  2) 오늘 요일 == 요일 반복 설정
         processUpdateDeadlineTodos(LocalDate.now(), List.of(userId));
+        eventPublisher.publishEvent(CalendarChangeEvent.reset(userId));
     }
 
     /**
@@ -444,11 +470,13 @@ public class TodoService {
      * - 미완료(INCOMPLETE) 상태 → 완료(COMPLETED) 상태로 변경
      * - 완료 시간을 "어제 날짜의 23:59"로 설정
      * - 반복 할 일이면 새로운 백로그 할 일을 생성
+     * 완료 시간은 저장하지 않고 반환하므로, 호출 측에서 한 번에 저장합니다.
      *
      * @param findTodo 업데이트할 할 일 객체
+     * @return 저장할 완료 시간
      */
-    private void updateYesterdayIsCompleted(Todo findTodo) {
-        int existBacklogOrder = findTodo.getBacklogOrder();
+    private CompletedDateTime updateYesterdayIsCompleted(Todo findTodo) {
+        Integer existBacklogOrder = findTodo.getBacklogOrder();
         findTodo.updateYesterdayToCompleted();
         // 완료 시간을 "어제 날짜의 23:59"로 설정
         LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(23, 59);
@@ -456,12 +484,12 @@ public class TodoService {
                 .todoId(findTodo.getId())
                 .dateTime(yesterday)
                 .build();
-        completedDateTimeRepository.save(completedDateTime);
 
-        // 반복 할 일이라면, 오늘 날짜로 지정하여 백로그에 추가
+        // 반복 할 일이라면, 기존 순서 그대로 백로그에 추가
         if (findTodo.isRepeat() || findTodo.isRoutine()) {
             findTodo.changeToBacklog(existBacklogOrder);
         }
+        return completedDateTime;
     }
 
     /**
@@ -489,48 +517,89 @@ public class TodoService {
 	}
 
 	/**
-	 * 미래 날짜의 히스토리 조회를 위해,
-	 * - 해당 날짜가 마감인 BACKLOG
-	 * - 해당 날짜의 요일이 매칭되는 루틴 BACKLOG
-	 * 을 합친 뒤 페이징하여 반환합니다.
+	 * 히스토리 데이터를 커서 기반으로 조회합니다.
+	 * 모든 날짜에서 마지막으로 조회한 항목의 정렬 키를 커서로 사용하여 COUNT 쿼리 없이 다음 목록을 조회합니다.
+	 * - 지난 날짜: (첫 완료 시각, id)
+	 * - 오늘: (상태, todayOrder, id)
+	 * - 미래 날짜: id
+	 *
+	 * @param userId 사용자 ID
+	 * @param localDate 조회할 날짜
+	 * @param cursor 이전 응답의 nextCursor (첫 조회 시 null)
+	 * @param size 조회할 항목 수
+	 * @return 히스토리 목록과 다음 커서 정보
 	 */
-	private Page<Todo> getFuturePlanTodosIncludingRoutines(Long userId, LocalDate targetDate, int page, int size) {
-		// 1) 해당 날짜 마감 백로그 수집
-		List<Todo> deadlineMatchedTodos = todoRepository.findTodosByDeadLine(userId, targetDate);
+	@Transactional(readOnly = true)
+	public CursorHistoryResponseDto getHistoriesByCursor(Long userId, LocalDate localDate, String cursor, int size) {
+		userValidator.checkIsExistUser(userId);
+		LocalDate today = LocalDate.now();
+		if (localDate.isEqual(today)) {
+			return getTodayHistoriesByCursor(userId, today, cursor, size);
+		} else if (localDate.isAfter(today)) {
+			return getFutureHistoriesByCursor(userId, localDate, cursor, size);
+		}
 
-		// 2) 해당 날짜 요일에 매칭되는 루틴 백로그 수집
-		String dayName = targetDate.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
-		List<Todo> routineMatchedTodos = todoRepository.findRoutineTodosByDay(userId, dayName);
+		Slice<HistoryProjection> histories = todoRepository.findHistoriesByCursor(
+			userId, localDate, HistoryCursor.decode(cursor, localDate), size);
 
-		// 3) 합치고 중복 제거 (같은 todo가 양쪽 쿼리에 걸칠 여지를 방지)
-		Map<Long, Todo> merged = new LinkedHashMap<>();
-		for (Todo t : deadlineMatchedTodos) {
-			merged.put(t.getId(), t);
+		String nextCursor = null;
+		if (histories.hasNext()) {
+			HistoryProjection last = histories.getContent().get(histories.getNumberOfElements() - 1);
+			nextCursor = new HistoryCursor(last.getCompletedDateTime(), last.getTodoId()).encode();
 		}
-		for (Todo t : routineMatchedTodos) {
-			merged.putIfAbsent(t.getId(), t);
-		}
-		List<Todo> combined = new ArrayList<>(merged.values());
 
-		// 4) 필요 시 정렬 기준을 부여
-		// 현재는 id 순 정렬 -> TODO. 추후 time이 노출된다면 time을 기준으로 오름차순 정렬
-		combined.sort(Comparator.comparing(Todo::getId));
+		List<HistoryResponseDto> historyDtos = histories.getContent().stream()
+			.map(HistoryResponseDto::from)
+			.toList();
+
+		return CursorHistoryResponseDto.of(historyDtos, nextCursor, histories.hasNext());
+	}
+
+	private CursorHistoryResponseDto getTodayHistoriesByCursor(Long userId, LocalDate today, String cursor, int size) {
+		Slice<Todo> todos = todoRepository.findTodaysByCursor(userId, today, TodayHistoryCursor.decode(cursor), size);
+
+		String nextCursor = todos.hasNext()
+			? TodayHistoryCursor.from(todos.getContent().get(todos.getNumberOfElements() - 1)).encode()
+			: null;
+
+		List<HistoryResponseDto> historyDtos = todos.getContent().stream()
+			.map(HistoryResponseDto::from)
+			.toList();
+
+		return CursorHistoryResponseDto.of(historyDtos, nextCursor, todos.hasNext());
+	}
 
-		// 5) 수동 페이징
-		PageRequest pageRequest = PageRequest.of(page, size);
-		int start = (int) pageRequest.getOffset();
-		int end = Math.min(start + pageRequest.getPageSize(), combined.size());
-		List<Todo> pageContent = (start >= combined.size()) ? Collections.emptyList() : combined.subList(start, end);
+	private CursorHistoryResponseDto getFutureHistoriesByCursor(Long userId, LocalDate targetDate, String cursor, int size) {
+		String dayName = targetDate.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+		Slice<Todo> todos = todoRepository.findFuturePlanTodosByCursor(
+			userId, targetDate, dayName, PlanHistoryCursor.decode(cursor), size);
+
+		String nextCursor = todos.hasNext()
+			? new PlanHistoryCursor(todos.getContent().get(todos.getNumberOfElements() - 1).getId()).encode()
+			: null;
+
+		List<HistoryResponseDto> historyDtos = todos.getContent().stream()
+			.map(todo -> HistoryResponseDto.of(todo, false))
+			.toList();
 
-		return new PageImpl<>(pageContent, pageRequest, combined.size());
+		return CursorHistoryResponseDto.of(historyDtos, nextCursor, todos.hasNext());
+	}
+
+	/**
+	 * 미래 날짜의 히스토리 조회를 위해,
+	 * - 해당 날짜가 마감인 BACKLOG
+	 * - 해당 날짜의 요일이 매칭되는 루틴 BACKLOG
+	 * 을 하나의 쿼리로 조회하여 반환합니다. 중복 제거, 정렬(id 오름차순), 페이징은 DB에서 처리합니다.
+	 */
+	private Page<Todo> getFuturePlanTodosIncludingRoutines(Long userId, LocalDate targetDate, int page, int size) {
+		String dayName = targetDate.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+		return todoRepository.findFuturePlanTodos(userId, targetDate, dayName, PageRequest.of(page, size));
 	}
 
 	/**
      * 오늘(TODAY)의 할 일 목록을 조회합니다.
-     * 오늘 날짜 기준으로 다음의 할 일들을 조회하여 반환합니다:
-     * - 미완료 상태(INCOMPLETE)의 할 일
-     * - 완료 상태(COMPLETED)의 할 일
-     * 두 목록을 하나로 합친 후, 요청된 페이지 기준으로 페이징 처리합니다.
+     * 미완료 상태(INCOMPLETE)의 할 일을 먼저, 완료 상태(COMPLETED)의 할 일을 완료 시각 순으로 이어서 정렬하며,
+     * 페이징은 DB에서 처리합니다.
      *
      * @param userId 사용자 ID
      * @param page 요청 페이지 번호 (0부터 시작)
@@ -538,16 +607,7 @@ public class TodoService {
      * @return 오늘 할 일 목록의 Page 객체
      */
     private Page<Todo> getTodayTodos(Long userId, int page, int size) {
-        List<Todo> todayTodos = new ArrayList<>();
-        List<Todo> incompleteTodos = todoRepository.findIncompleteTodays(userId, Type.TODAY, LocalDate.now(), TodayStatus.INCOMPLETE);
-        List<Todo> completedTodos = todoRepository.findCompletedTodays(userId, LocalDate.now());
-        todayTodos.addAll(incompleteTodos);
-        todayTodos.addAll(completedTodos);
-
-        PageRequest pageRequest = PageRequest.of(page, size);
-        int start = (int) pageRequest.getOffset();
-        int end = Math.min((start + pageRequest.getPageSize()), todayTodos.size());
-        return new PageImpl<>(todayTodos.subList(start, end), pageRequest, todayTodos.size());
+        return todoRepository.findTodays(userId, LocalDate.now(), PageRequest.of(page, size));
     }
 
     /**
@@ -557,15 +617,12 @@ public class TodoService {
      *
      * @param userId 사용자 ID
      * @param year 조회할 연도
-     * @param month 조회할 월
+     * @param month 조회 시작 월
+     * @param months 조회할 개월 수
      * @return 할 일이 존재하는 날짜 리스트
      */
-    @Transactional(readOnly = true)
-    public List<LocalDate> getLegacyHistoriesCalendar(Long userId, String year, int month) {
-        return completedDateTimeRepository.findHistoryExistingDates(userId, year, month).stream()
-                .map(LocalDateTime::toLocalDate)
-                .distinct()
-                .toList();
+    public List<LocalDate> getLegacyHistoriesCalendar(Long userId, String year, int month, int months) {
+        return todoCalendarService.getHistoryDates(userId, YearMonth.of(Integer.parseInt(year), month), months);
     }
 
 	/**
@@ -575,84 +632,20 @@ public class TodoService {
 	 * - 완료 히스토리(CompletedDateTime)가 존재하는 경우: 무조건 -1을 사용합니다. (백로그/루틴 합계가 있어도 -1 우선)
 	 * - 완료 히스토리가 없고, 백로그 마감(backlog) 개수와 요일 반복(루틴) 개수의 합이 1 이상인 경우: 합계를 사용합니다.
 	 * - 완료 히스토리도 없고, 합계가 0인 경우: 해당 날짜는 결과에서 제외됩니다.
+	 * 값은 사용자별 캘린더 요약에서 계산되며, 여러 달을 한 번에 조회할 수 있습니다.
 	 *
 	 * @param userId 사용자 ID
 	 * @param year 조회할 연도 (예: "2025")
-	 * @param month 조회할 월 (1~12)
+	 * @param month 조회 시작 월 (1~12)
+	 * @param months 조회할 개월 수
 	 * @return 날짜별 히스토리/백로그/루틴 정보 DTO
 	 */
-	@Transactional(readOnly = true)
-	public HistoryCalendarListResponseDto getHistoriesCalendar(Long userId, String year, int month) {
-		// 1) 백로그 일자별 카운트
-		Map<LocalDate, Integer> backlogCounts = loadBacklogCountMap(userId, year, month);
-
-		// 2) 요일별 루틴 카운트
-		Map<String, Integer> routineCountByDay = loadRoutineCountByDay(userId);
-
-		// 3) 해당 월의 각 날짜에 대해 (백로그 + 루틴) 합계를 계산
-		Map<LocalDate, Integer> resultByDate = fillCountsFromBacklogAndRoutine(backlogCounts, routineCountByDay, year, month);
-
-		// 4) 히스토리 날짜는 합계가 있어도 -1로 덮어씁니다.
-		Set<LocalDate> historyDates = loadHistoryDateSet(userId, year, month);
-		markHistoryDatesWithMinusOne(resultByDate, historyDates);
-
+	public HistoryCalendarListResponseDto getHistoriesCalendar(Long userId, String year, int month, int months) {
+		Map<LocalDate, Integer> resultByDate =
+			todoCalendarService.getCalendarCounts(userId, YearMonth.of(Integer.parseInt(year), month), months);
 		return HistoryCalendarListResponseDto.from(resultByDate);
 	}
 
-	private Map<LocalDate, Integer> loadBacklogCountMap(Long userId, String year, int month) {
-		return todoRepository.findDatesWithBacklogCount(userId, year, month).stream()
-			.collect(Collectors.toMap(
-				t -> ((Date) t.get("date")).toLocalDate(),
-				t -> ((Number) t.get("count")).intValue()
-			));
-	}
-
-	private Map<String, Integer> loadRoutineCountByDay(Long userId) {
-		List<RoutineCountProjection> projections = routineRepository.countRoutinesByDay(userId);
-
-		return projections.stream()
-			.collect(Collectors.toMap(
-				RoutineCountProjection::getDay,
-				p -> p.getCount().intValue()
-			));
-	}
-
-	private Map<LocalDate, Integer> fillCountsFromBacklogAndRoutine(
-		Map<LocalDate, Integer> backlogCounts,
-		Map<String, Integer> routineCountByDay,
-		String year, int month
-	) {
-
-		Map<LocalDate, Integer> result = new HashMap<>();
-		LocalDate firstDay = LocalDate.of(Integer.parseInt(year), month, 1);
-		LocalDate lastDay = firstDay.withDayOfMonth(firstDay.lengthOfMonth());
-
-		for (LocalDate d = LocalDate.now().plusDays(1); !d.isAfter(lastDay); d = d.plusDays(1)) {
-			int backlog = backlogCounts.getOrDefault(d, 0);
-			int routine = routineCountByDay.getOrDefault(
-				d.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN), 0
-			);
-			int sum = backlog + routine;
-			if (sum > 0) {
-				result.put(d, sum);
-			}
-		}
-		return result;
-	}
-
-	private Set<LocalDate> loadHistoryDateSet(Long userId, String year, int month) {
-		return completedDateTimeRepository.findHistoryExistingDates(userId, year, month).stream()
-			.map(LocalDateTime::toLocalDate)
-			.collect(Collectors.toCollection(LinkedHashSet::new));
-	}
-
-	private void markHistoryDatesWithMinusOne(Map<LocalDate, Integer> resultByDate, Set<LocalDate> historyDates) {
-		for (LocalDate date : historyDates) {
-			// 완료 히스토리가 존재하는 날짜는 합계가 있어도 -1을 우선합니다.
-			resultByDate.put(date, -1);
-		}
-	}
-
 	/**
      * 특정 할 일의 카테고리를 업데이트합니다.
      *
@@ -694,9 +687,13 @@ public class TodoService {
     public void createIsRepeat(Long userId, Long todoId) {
         userValidator.checkIsExistUser(userId);
         Todo findTodo = validateAndReturnTodo(userId, todoId);
+        List<String> oldDays = findRoutineDaysIfCounted(findTodo);
         findTodo.setRepeat(true);
         findTodo.setRoutine(false);
         routineRepository.deleteByTodoId(todoId);
+        if (!oldDays.isEmpty()) {
+            eventPublisher.publishEvent(CalendarChangeEvent.routineChanged(userId, oldDays, List.of()));
+        }
     }
 
     /**
@@ -717,30 +714,32 @@ public class TodoService {
      * 1. 오늘 날짜 == 마감 기한과 일치하는 할 일들을 찾아 TODAY 상태로 업데이트합니다.
      * 2. 오늘 요일 == 요일 반복 설정과 일치하는 할 일들을 찾아 TODAY 상태로 업데이트합니다.
      * - 기본적인 todayOrder 값을 설정하여 정렬 순서를 유지합니다.
+     * - 어제 한 일 체크처럼 특정 사용자만 처리할 때 사용하며, 자정 배치는 {@link TodoRepository#promoteDueTodos}로 일괄 처리합니다.
      *
      * @param today 오늘 날짜
      * @param userIds 업데이트할 사용자 ID 목록
+     * @return TODAY로 변경된 할 일 수
      */
     @Transactional
-    public void processUpdateDeadlineTodos(LocalDate today, List<Long> userIds) {
+    public int processUpdateDeadlineTodos(LocalDate today, List<Long> userIds) {
         String todayDay = today.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+        int updatedCount = 0;
 
         for (Long userId : userIds) {
-            int todayOrder = todoRepository.findMaxTodayOrderByUserIdOrZero(userId);
-
-            // 1. 마감 기한이 오늘인 BACKLOG -> TODAY
+            // 1. 마감 기한이 오늘인 BACKLOG, 2. 오늘 요일이 포함된 요일 반복 설정된 BACKLOG 순으로 TODAY 위에 쌓음
             List<Todo> deadlineMatchedTodos = todoRepository.findTodosByDeadLine(userId, today);
-
-            for (Todo todo : deadlineMatchedTodos) {
-                todo.changeToToday(todayOrder++);
-            }
-
-            // 2. 오늘 요일이 포함된 요일 반복 설정된 BACKLOG -> TODAY
             List<Todo> routineMatchedTodos = todoRepository.findRoutineTodosByDay(userId, todayDay);
+            List<Todo> matchedTodos = Stream.concat(deadlineMatchedTodos.stream(), routineMatchedTodos.stream())
+                    .distinct()
+                    .toList();
 
-            for (Todo todo : routineMatchedTodos) {
-                todo.changeToToday(todayOrder++);
+            List<Integer> todayOrders = todoOrderService.nextTopTodayOrders(userId, matchedTodos.size());
+            for (int index = 0; index < matchedTodos.size(); index++) {
+                matchedTodos.get(index).changeToToday(todayOrders.get(index));
             }
+
+            updatedCount += matchedTodos.size();
         }
+        return updatedCount;
     }
 }
@@ -1,24 +1,21 @@
 package server.poptato.todo.application;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.infra.firebase.application.FcmNotificationBatchService;
 import server.poptato.todo.api.request.EventCreateRequestDto;
 import server.poptato.todo.application.response.TodayListResponseDto;
 import server.poptato.todo.application.response.TodayResponseDto;
-import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.entity.Todo;
 import server.poptato.todo.domain.repository.RoutineRepository;
 import server.poptato.todo.domain.repository.TodoRepository;
-import server.poptato.todo.domain.value.TodayStatus;
-import server.poptato.todo.domain.value.Type;
-import server.poptato.user.domain.repository.UserRepository;
 import server.poptato.user.domain.value.MobileType;
 import server.poptato.user.validator.UserValidator;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,9 +26,9 @@ import java.util.stream.Collectors;
 public class TodoTodayService {
     private final TodoRepository todoRepository;
     private final RoutineRepository routineRepository;
-    private final UserRepository userRepository;
     private final UserValidator userValidator;
     private final FcmNotificationBatchService fcmNotificationBatchService;
+    private final TodoBatchService todoBatchService;
 
     /**
      * 오늘의 할 일 목록을 조회합니다.
@@ -47,63 +44,28 @@ public class TodoTodayService {
     ) {
         userValidator.checkIsExistUser(userId);
 
-        List<Todo> todays = getAllTodays(userId, todayDate);
-        List<Todo> todaySubList = getTodayPagination(todays, page, size);
-        int totalPageCount = (int) Math.ceil((double) todays.size() / size);
+        Page<Todo> todays = todoRepository.findTodaysWithCategory(userId, todayDate, PageRequest.of(page, size));
+        List<Todo> todaySubList = todays.getContent();
+        int totalPageCount = todays.getTotalPages();
+
+        Map<Long, List<String>> routineDaysByTodoId = routineRepository.findAllByTodoIdIn(
+                todaySubList.stream().map(Todo::getId).toList()
+        );
 
         List<TodayResponseDto> todayDtos = todaySubList.stream()
-                .map(todo -> {
-                    List<String> routineDays = routineRepository.findAllByTodoId(todo.getId())
-                            .stream()
-                            .map(Routine::getDay)
-                            .collect(Collectors.toList());
-                    return TodayResponseDto.of(todo, routineDays, mobileType);
-                })
+                .map(todo -> TodayResponseDto.of(
+                        todo,
+                        routineDaysByTodoId.getOrDefault(todo.getId(), List.of()),
+                        mobileType
+                ))
                 .collect(Collectors.toList());
 
         return TodayListResponseDto.of(todayDate, todayDtos, totalPageCount);
     }
 
-    /**
-     * 오늘의 할 일 목록을 페이징 처리합니다.
-     *
-     * @param todays 오늘의 모든 할 일 목록
-     * @param page 요청 페이지 번호
-     * @param size 한 페이지에 보여줄 항목 수
-     * @return 페이징 처리된 할 일 목록
-     */
-    private List<Todo> getTodayPagination(List<Todo> todays, int page, int size) {
-        int start = page * size;
-        int end = Math.min(start + size, todays.size());
-
-        if (start >= end) {
-            return new ArrayList<>();
-        }
-
-        return todays.subList(start, end);
-    }
-
-    /**
-     * 사용자의 오늘의 모든 할 일을 조회합니다.
-     * 완료된 항목과 미완료 항목을 포함합니다.
-     *
-     * @param userId 사용자 ID
-     * @param todayDate 오늘 날짜
-     * @return 오늘의 모든 할 일 목록
-     */
-    private List<Todo> getAllTodays(long userId, LocalDate todayDate) {
-        List<Todo> todays = new ArrayList<>();
-        List<Todo> incompleteTodos = todoRepository.findIncompleteTodaysWithCategory(userId, Type.TODAY, todayDate, TodayStatus.INCOMPLETE);
-        List<Todo> completedTodos = todoRepository.findCompletedTodaysWithCategory(userId, todayDate);
-
-        todays.addAll(incompleteTodos);
-        todays.addAll(completedTodos);
-
-        return todays;
-    }
-
     /**
      * 이벤트 생성 및 전체 사용자 대상 Today Todo 생성 처리.
+     * Today Todo 생성은 백그라운드 배치 작업으로 실행되며, 요청은 작업 완료를 기다리지 않습니다.
      *
      * @param request 이벤트 생성 요청 데이터
      */
@@ -117,32 +79,7 @@ public class TodoTodayService {
 
         // 필요 시 전체 유저에게 Today Todo 생성
         if (request.isCreateTodayTodo()) {
-            createTodayTodosForAllUsers(request);
+            todoBatchService.createEventTodayTodos(request);
         }
     }
-
-    /**
-     * 전체 사용자에게 Today Todo를 생성한다.
-     *
-     * @param request 이벤트 요청 데이터
-     */
-    private void createTodayTodosForAllUsers(EventCreateRequestDto request) {
-        List<Long> userIds = userRepository.findAllUserIds();
-        Map<Long, Integer> maxTodayOrders = todoRepository.findMaxTodayOrdersByUserIdsOrZero(userIds);
-
-        List<Todo> todosToSave = userIds.stream()
-                .map(userId -> {
-                    int todayOrder = maxTodayOrders.get(userId) + 1;
-                    return Todo.createTodayTodo(
-                            userId,
-                            request.todoContent(),
-                            request.todoTime(),
-                            request.isBookmarked(),
-                            todayOrder
-                    );
-                })
-                .toList();
-
-        todoRepository.saveAll(todosToSave);
-    }
 }
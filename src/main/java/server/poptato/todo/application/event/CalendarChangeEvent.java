@@ -0,0 +1,48 @@
+package server.poptato.todo.application.event;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캘린더 요약에 반영할 변경 사항.
+ * 날짜/요일별 증감 값을 담으며, reset 이 true 이면 증감 대신 사용자의 요약 전체를 무효화합니다.
+ */
+public record CalendarChangeEvent(
+        Long userId,
+        Map<LocalDate, Integer> historyDeltas,
+        Map<LocalDate, Integer> backlogDeltas,
+        Map<String, Integer> routineDeltas,
+        boolean reset
+) {
+    public static CalendarChangeEvent completed(Long userId, LocalDate date) {
+        return new CalendarChangeEvent(userId, Map.of(date, 1), Map.of(), Map.of(), false);
+    }
+
+    public static CalendarChangeEvent incompleted(Long userId, LocalDate date) {
+        return new CalendarChangeEvent(userId, Map.of(date, -1), Map.of(), Map.of(), false);
+    }
+
+    public static CalendarChangeEvent deadlineChanged(Long userId, LocalDate oldDeadline, LocalDate newDeadline) {
+        Map<LocalDate, Integer> backlogDeltas = new HashMap<>();
+        if (oldDeadline != null) {
+            backlogDeltas.merge(oldDeadline, -1, Integer::sum);
+        }
+        if (newDeadline != null) {
+            backlogDeltas.merge(newDeadline, 1, Integer::sum);
+        }
+        return new CalendarChangeEvent(userId, Map.of(), backlogDeltas, Map.of(), false);
+    }
+
+    public static CalendarChangeEvent routineChanged(Long userId, Collection<String> removedDays, Collection<String> addedDays) {
+        Map<String, Integer> routineDeltas = new HashMap<>();
+        removedDays.forEach(day -> routineDeltas.merge(day, -1, Integer::sum));
+        addedDays.forEach(day -> routineDeltas.merge(day, 1, Integer::sum));
+        return new CalendarChangeEvent(userId, Map.of(), Map.of(), routineDeltas, false);
+    }
+
+    public static CalendarChangeEvent reset(Long userId) {
+        return new CalendarChangeEvent(userId, Map.of(), Map.of(), Map.of(), true);
+    }
+}
@@ -0,0 +1,49 @@
+package server.poptato.todo.application.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import server.poptato.todo.application.event.CalendarChangeEvent;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CalendarEventListener {
+
+    private final CalendarSummaryRepository calendarSummaryRepository;
+
+    /**
+     * 커밋된 변경 사항을 캘린더 요약에 반영합니다.
+     * 반영에 실패하면 요약을 무효화하여 다음 조회 시 DB에서 다시 만들어지도록 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCalendarChange(CalendarChangeEvent event) {
+        Long userId = event.userId();
+        try {
+            if (event.reset()) {
+                calendarSummaryRepository.evict(userId);
+                return;
+            }
+            event.historyDeltas().forEach((date, delta) ->
+                    calendarSummaryRepository.incrementHistoryCount(userId, date, delta));
+            event.backlogDeltas().forEach((date, delta) ->
+                    calendarSummaryRepository.incrementBacklogCount(userId, date, delta));
+            event.routineDeltas().forEach((day, delta) ->
+                    calendarSummaryRepository.incrementRoutineCount(userId, day, delta));
+        } catch (RuntimeException e) {
+            log.warn("[Calendar] userId={} 캘린더 요약 반영 실패, 요약을 무효화합니다.", userId, e);
+            evictQuietly(userId);
+        }
+    }
+
+    private void evictQuietly(Long userId) {
+        try {
+            calendarSummaryRepository.evict(userId);
+        } catch (RuntimeException e) {
+            log.error("[Calendar] userId={} 캘린더 요약 무효화 실패", userId, e);
+        }
+    }
+}
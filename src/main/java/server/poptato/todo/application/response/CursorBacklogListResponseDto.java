@@ -0,0 +1,25 @@
+package server.poptato.todo.application.response;
+
+import java.util.List;
+
+public record CursorBacklogListResponseDto(
+        String categoryName,
+        List<BacklogResponseDto> backlogs,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static CursorBacklogListResponseDto of(
+            String categoryName,
+            List<BacklogResponseDto> backlogDtos,
+            String nextCursor,
+            boolean hasNext
+    ) {
+        return new CursorBacklogListResponseDto(
+                categoryName,
+                backlogDtos,
+                nextCursor,
+                hasNext
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package server.poptato.todo.application.response;
+
+import java.util.List;
+
+public record CursorHistoryResponseDto(
+        List<HistoryResponseDto> histories,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static CursorHistoryResponseDto of(List<HistoryResponseDto> histories, String nextCursor, boolean hasNext) {
+        return new CursorHistoryResponseDto(histories, nextCursor, hasNext);
+    }
+}
@@ -1,6 +1,7 @@
 package server.poptato.todo.application.response;
 
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.HistoryProjection;
 import server.poptato.todo.domain.value.TodayStatus;
 
 import java.time.LocalTime;
@@ -19,4 +20,12 @@ public record HistoryResponseDto(
     public static HistoryResponseDto of(Todo todo, Boolean isCompleted) {
         return new HistoryResponseDto(todo.getId(), todo.getContent(), todo.getTime(), isCompleted);
     }
+
+    /**
+     * 지난 날짜의 히스토리 항목을 변환합니다.
+     * 해당 날짜에 달성 시각이 있는 할 일만 조회되므로, 이후 백로그로 돌아간 반복 할 일도 달성한 것으로 표시합니다.
+     */
+    public static HistoryResponseDto from(HistoryProjection history) {
+        return new HistoryResponseDto(history.getTodoId(), history.getContent(), history.getTodoTime(), true);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package server.poptato.todo.application.response;
+
+import server.poptato.todo.domain.projection.TodoDetailProjection;
+import server.poptato.user.domain.value.MobileType;
+
+public record TodoDetailItemResponseDto(
+        Long todoId,
+        TodoDetailResponseDto detail
+) {
+    public static TodoDetailItemResponseDto of(TodoDetailProjection detail, MobileType mobileType) {
+        return new TodoDetailItemResponseDto(detail.getTodoId(), TodoDetailResponseDto.of(detail, mobileType));
+    }
+}
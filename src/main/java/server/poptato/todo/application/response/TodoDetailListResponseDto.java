@@ -0,0 +1,8 @@
+package server.poptato.todo.application.response;
+
+import java.util.List;
+
+public record TodoDetailListResponseDto(
+        List<TodoDetailItemResponseDto> todoDetails
+) {
+}
@@ -1,10 +1,14 @@
 package server.poptato.todo.application.response;
 
 import server.poptato.category.domain.entity.Category;
+import server.poptato.global.util.FileUtil;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.TodoDetailProjection;
+import server.poptato.user.domain.value.MobileType;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.List;
 
 public record TodoDetailResponseDto(
@@ -31,4 +35,23 @@ public record TodoDetailResponseDto(
                 routineDays
         );
     }
+
+    public static TodoDetailResponseDto of(TodoDetailProjection detail, MobileType mobileType) {
+        String imageUrl = detail.getEmojiImageUrl() != null ?
+                FileUtil.changeFileExtension(detail.getEmojiImageUrl(), mobileType.getImageUrlExtension()) : null;
+        List<String> routineDays = detail.getRoutineDays() != null ?
+                Arrays.asList(detail.getRoutineDays().split(",")) : List.of();
+
+        return new TodoDetailResponseDto(
+                detail.getContent(),
+                detail.getTodoTime(),
+                detail.getDeadline(),
+                detail.getCategoryName(),
+                imageUrl,
+                detail.getIsBookmark(),
+                detail.getIsRepeat(),
+                detail.getIsRoutine(),
+                routineDays
+        );
+    }
 }
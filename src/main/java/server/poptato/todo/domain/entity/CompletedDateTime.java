@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "completed_date_time")
+@Table(name = "completed_date_time", indexes = {
+        @Index(name = "idx_completed_date_time_todo_date_time", columnList = "todo_id, date_time"),
+        @Index(name = "idx_completed_date_time_date_time_todo", columnList = "date_time, todo_id")
+})
 public class CompletedDateTime extends BaseEntity {
 
     @Id
@@ -10,7 +10,9 @@ import server.poptato.global.dao.BaseEntity;
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-@Table(name = "routine")
+@Table(name = "routine", indexes = {
+        @Index(name = "idx_routine_todo_day", columnList = "todo_id, day")
+})
 public class Routine extends BaseEntity {
 
     @Id
@@ -16,7 +16,12 @@ import java.time.LocalTime;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "todo")
+@Table(name = "todo", indexes = {
+        @Index(name = "idx_todo_user_today_order", columnList = "user_id, today_order"),
+        @Index(name = "idx_todo_user_backlog_order", columnList = "user_id, backlog_order"),
+        @Index(name = "idx_todo_user_type_deadline", columnList = "user_id, type, deadline"),
+        @Index(name = "idx_todo_category", columnList = "category_id")
+})
 public class Todo extends BaseEntity {
 
     @Id
@@ -141,17 +146,17 @@ public class Todo extends BaseEntity {
                 .build();
     }
 
-    public void changeToToday(Integer maxTodayOrder) {
+    public void changeToToday(Integer todayOrder) {
         this.type = Type.TODAY;
         this.backlogOrder = null;
-        this.todayOrder = maxTodayOrder + 1;
+        this.todayOrder = todayOrder;
         this.todayStatus = TodayStatus.INCOMPLETE;
         this.todayDate = LocalDate.now();
     }
 
-    public void changeToBacklog(Integer maxBacklogOrder) {
+    public void changeToBacklog(Integer backlogOrder) {
         this.type = Type.BACKLOG;
-        this.backlogOrder = maxBacklogOrder + 1;
+        this.backlogOrder = backlogOrder;
         this.todayOrder = null;
         this.todayStatus = null;
         this.todayDate = null;
@@ -173,9 +178,9 @@ public class Todo extends BaseEntity {
         this.content = content;
     }
 
-    public void incompleteTodayTodo(Integer minTodayOrder) {
+    public void incompleteTodayTodo(Integer todayOrder) {
         this.todayStatus = TodayStatus.INCOMPLETE;
-        this.todayOrder = minTodayOrder - 1;
+        this.todayOrder = todayOrder;
     }
 
     public void completeTodayTodo() {
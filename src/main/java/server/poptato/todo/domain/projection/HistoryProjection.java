@@ -0,0 +1,11 @@
+package server.poptato.todo.domain.projection;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public interface HistoryProjection {
+    Long getTodoId();
+    String getContent();
+    LocalTime getTodoTime();
+    LocalDateTime getCompletedDateTime();
+}
@@ -0,0 +1,7 @@
+package server.poptato.todo.domain.projection;
+
+public interface TimeAlarmPushTargetProjection {
+    Long getAlarmId();
+    String getClientId();
+    String getContent();
+}
@@ -0,0 +1,17 @@
+package server.poptato.todo.domain.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface TodoDetailProjection {
+    Long getTodoId();
+    String getContent();
+    LocalTime getTodoTime();
+    LocalDate getDeadline();
+    String getCategoryName();
+    String getEmojiImageUrl();
+    Boolean getIsBookmark();
+    Boolean getIsRepeat();
+    Boolean getIsRoutine();
+    String getRoutineDays();
+}
@@ -0,0 +1,31 @@
+package server.poptato.todo.domain.repository;
+
+import server.poptato.todo.domain.value.CalendarSummary;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CalendarSummaryRepository {
+
+    CalendarSummary find(Long userId, List<YearMonth> months);
+
+    String beginLoad(Long userId, Collection<YearMonth> months, boolean routine);
+
+    boolean saveMonth(Long userId, YearMonth month, String loadToken,
+                      Map<LocalDate, Integer> historyCounts, Map<LocalDate, Integer> backlogCounts);
+
+    boolean saveRoutineCounts(Long userId, String loadToken, Map<String, Integer> routineCounts);
+
+    void incrementHistoryCount(Long userId, LocalDate date, int delta);
+
+    void incrementBacklogCount(Long userId, LocalDate date, int delta);
+
+    void incrementRoutineCount(Long userId, String day, int delta);
+
+    void evict(Long userId);
+
+    void evictAll();
+}
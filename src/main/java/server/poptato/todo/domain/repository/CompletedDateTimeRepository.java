@@ -1,8 +1,8 @@
 package server.poptato.todo.domain.repository;
 
+import jakarta.persistence.Tuple;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 
-import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -10,18 +10,17 @@ import java.util.Optional;
 
 public interface CompletedDateTimeRepository {
 
-    Optional<CompletedDateTime> findByTodoIdAndDate(Long id, LocalDate todayDate);
+    Optional<CompletedDateTime> findByTodoIdAndDateTimeRange(Long todoId, LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    default Optional<CompletedDateTime> findByTodoIdAndDate(Long todoId, LocalDate date) {
+        return findByTodoIdAndDateTimeRange(todoId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+    }
 
     void delete(CompletedDateTime completedDateTime);
 
     CompletedDateTime save(CompletedDateTime completedDateTime);
 
-    List<Timestamp> findDistinctCompletedDateTimesByUserIdAndYearMonth(Long userId, String year, int month);
+    void insertAll(List<CompletedDateTime> completedDateTimes);
 
-    default List<LocalDateTime> findHistoryExistingDates(Long userId, String year, int month) {
-        List<Timestamp> timestamps = findDistinctCompletedDateTimesByUserIdAndYearMonth(userId, year, month);
-        return timestamps.stream()
-                .map(Timestamp::toLocalDateTime)
-                .toList();
-    }
+    List<Tuple> findDatesWithHistoryCount(Long userId, LocalDateTime startDateTime, LocalDateTime endDateTime);
 }
@@ -1,6 +1,7 @@
 package server.poptato.todo.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 
 import server.poptato.todo.domain.entity.Routine;
 import server.poptato.todo.domain.projection.RoutineCountProjection;
@@ -13,5 +14,7 @@ public interface RoutineRepository {
 
     List<Routine> findAllByTodoId(Long todoId);
 
+    Map<Long, List<String>> findAllByTodoIdIn(List<Long> todoIds);
+
 	List<RoutineCountProjection> countRoutinesByDay(Long userId);
 }
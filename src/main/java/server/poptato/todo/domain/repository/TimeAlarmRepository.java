@@ -1,6 +1,8 @@
 package server.poptato.todo.domain.repository;
 
+import org.springframework.data.domain.Pageable;
 import server.poptato.todo.domain.entity.TimeAlarm;
+import server.poptato.todo.domain.projection.TimeAlarmPushTargetProjection;
 
 import java.time.LocalTime;
 import java.util.List;
@@ -14,6 +16,12 @@ public interface TimeAlarmRepository {
 
     void delete(TimeAlarm timeAlarm);
 
-    List<TimeAlarm> findPushEnabledAlarms(LocalTime from, LocalTime to);
+    List<Long> findPushEnabledAlarmIdsAfter(LocalTime from, LocalTime to, Long lastAlarmId, Pageable pageable);
+
+    List<TimeAlarmPushTargetProjection> findPushTargets(List<Long> alarmIds);
+
+    int markNotified(List<Long> alarmIds);
+
+    int deleteAllByUserId(Long userId);
 
 }
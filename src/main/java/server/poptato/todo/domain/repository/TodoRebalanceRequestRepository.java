@@ -0,0 +1,10 @@
+package server.poptato.todo.domain.repository;
+
+import java.util.List;
+
+public interface TodoRebalanceRequestRepository {
+
+    void save(Long userId);
+
+    List<Long> pop(int count);
+}
@@ -1,29 +1,39 @@
 package server.poptato.todo.domain.repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import jakarta.persistence.Tuple;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.HistoryProjection;
+import server.poptato.todo.domain.projection.TodoDetailProjection;
+import server.poptato.todo.domain.value.BacklogCursor;
+import server.poptato.todo.domain.value.HistoryCursor;
+import server.poptato.todo.domain.value.PlanHistoryCursor;
+import server.poptato.todo.domain.value.TodayHistoryCursor;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 
 public interface TodoRepository {
 
-    List<Todo> findIncompleteTodays(Long userId, Type type, LocalDate todayDate, TodayStatus todayStatus);
+    Page<Todo> findTodays(Long userId, LocalDate todayDate, Pageable pageable);
 
-    List<Todo> findCompletedTodays(Long userId, LocalDate todayDate);
+    Page<Todo> findTodaysWithCategory(Long userId, LocalDate todayDate, Pageable pageable);
 
-    List<Todo> findIncompleteTodaysWithCategory(Long userId, Type type, LocalDate todayDate, TodayStatus todayStatus);
+    Optional<Todo> findById(Long todoId);
 
-    List<Todo> findCompletedTodaysWithCategory(Long userId, LocalDate todayDate);
+    List<Todo> findAllById(List<Long> todoIds);
 
-    Optional<Todo> findById(Long todoId);
+    void updateTodayOrders(Map<Long, Integer> todayOrdersByTodoId);
+
+    void updateBacklogOrders(Map<Long, Integer> backlogOrdersByTodoId);
 
     void delete(Todo todo);
 
@@ -35,11 +45,23 @@ public interface TodoRepository {
 
     Page<Todo> findByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus, Pageable pageable);
 
-    Integer findMaxTodayOrderByUserIdOrZero(Long userId);
+    Optional<Integer> findTopTodayOrder(Long userId);
+
+    Optional<Integer> findBottomTodayOrder(Long userId);
+
+    Optional<Integer> findTopBacklogOrder(Long userId);
+
+    Optional<Integer> findTodayOrderAbove(Long userId, int order);
 
-    Integer findMinTodayOrderByUserIdOrZero(Long userId);
+    Optional<Integer> findTodayOrderBelow(Long userId, int order);
 
-    Integer findMaxBacklogOrderByUserIdOrZero(Long userId);
+    Optional<Integer> findBacklogOrderAbove(Long userId, int order);
+
+    Optional<Integer> findBacklogOrderBelow(Long userId, int order);
+
+    List<Todo> findAllTodayOrdered(Long userId);
+
+    List<Todo> findAllBacklogOrdered(Long userId);
 
     Page<Todo> findAllBacklogs(Long userId, Type type, TodayStatus status, Pageable pageable);
 
@@ -51,21 +73,43 @@ public interface TodoRepository {
 
     Page<Todo> findHistories(Long userId, LocalDate localDate, Pageable pageable);
 
-    List<Todo> findByType(Type type);
+    Slice<Todo> findAllBacklogsByCursor(Long userId, Type type, TodayStatus status, BacklogCursor cursor, int size);
+
+    Slice<Todo> findBookmarkBacklogsByCursor(Long userId, Type type, TodayStatus status, BacklogCursor cursor, int size);
+
+    Slice<Todo> findBacklogsByCategoryIdByCursor(Long userId, Long categoryId, Type type, TodayStatus status, BacklogCursor cursor, int size);
 
-    void deleteAllByCategoryId(Long categoryId);
+    Slice<HistoryProjection> findHistoriesByCursor(Long userId, LocalDate localDate, HistoryCursor cursor, int size);
 
-    List<Todo> findIncompleteTodayTodos(Long userId, TodayStatus todayStatus);
+    Slice<Todo> findTodaysByCursor(Long userId, LocalDate todayDate, TodayHistoryCursor cursor, int size);
+
+    int rolloverTodayTodos(List<Long> userIds);
+
+    List<Long> findUserIdsWithoutRolloverRoom(List<Long> userIds);
+
+    int promoteDueTodos(List<Long> userIds, LocalDate today, String todayDay);
+
+    List<Long> findUserIdsWithoutPromotionRoom(List<Long> userIds, LocalDate today, String todayDay);
+
+    int insertEventTodayTodos(Long fromUserId, Long toUserId, String content, LocalTime time, boolean isBookmark, LocalDate today);
+
+    List<Long> findIdsByUserIdAfter(Long userId, Long lastTodoId, Pageable pageable);
+
+    List<Long> findIdsByCategoryIdAfter(Long categoryId, Long lastTodoId, Pageable pageable);
+
+    int deleteAllWithDependents(List<Long> todoIds);
 
     List<Todo> findTodosByDeadLine(Long userId, LocalDate deadline);
 
     List<Todo> findRoutineTodosByDay(Long userId, String todayDay);
 
-    List<Todo> findIncompleteYesterdays(Long userId);
+    Page<Todo> findFuturePlanTodos(Long userId, LocalDate targetDate, String dayName, Pageable pageable);
 
-    List<Tuple> findDatesWithBacklogCount(Long userId, String year, int month);
+    Slice<Todo> findFuturePlanTodosByCursor(Long userId, LocalDate targetDate, String dayName, PlanHistoryCursor cursor, int size);
+
+    List<Todo> findIncompleteYesterdays(Long userId);
 
-    boolean existsByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus);
+    List<Tuple> findDatesWithBacklogCount(Long userId, LocalDate startDate, LocalDate endDate);
 
-    Map<Long, Integer> findMaxTodayOrdersByUserIdsOrZero(List<Long> userIds);
+    List<TodoDetailProjection> findTodoDetails(Long userId, List<Long> todoIds);
 }
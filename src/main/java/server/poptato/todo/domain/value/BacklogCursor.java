@@ -0,0 +1,44 @@
+package server.poptato.todo.domain.value;
+
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.response.status.ErrorStatus;
+import server.poptato.global.util.CursorUtil;
+import server.poptato.todo.domain.entity.Todo;
+
+import java.util.List;
+
+/**
+ * 백로그 목록 커서.
+ * 백로그는 (backlogOrder DESC, id DESC) 순으로 정렬되므로, 마지막으로 내려준 항목의 두 값을 기준으로 다음 페이지를 조회합니다.
+ * backlogOrder 가 없는 항목은 목록의 가장 아래에 id 순으로 놓이며, 커서에는 빈 값으로 기록됩니다.
+ */
+public record BacklogCursor(
+        Integer backlogOrder,
+        Long todoId
+) {
+
+    public static BacklogCursor first() {
+        return new BacklogCursor(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    public static BacklogCursor from(Todo todo) {
+        return new BacklogCursor(todo.getBacklogOrder(), todo.getId());
+    }
+
+    public static BacklogCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        List<String> values = CursorUtil.decode(cursor, 2);
+        try {
+            Integer backlogOrder = values.get(0).isEmpty() ? null : Integer.valueOf(values.get(0));
+            return new BacklogCursor(backlogOrder, Long.parseLong(values.get(1)));
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorStatus._INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(backlogOrder != null ? backlogOrder : "", todoId);
+    }
+}
@@ -0,0 +1,56 @@
+package server.poptato.todo.domain.value;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자별 캘린더 요약 데이터.
+ * 날짜별 완료 히스토리 개수, 날짜별 백로그 마감 개수, 요일별 루틴 개수를 담으며,
+ * 아직 요약이 만들어지지 않은 월과 루틴 개수 적재 여부를 함께 표시합니다.
+ *
+ * @param missingMonths 요약이 없는 월
+ * @param routineLoaded 요일별 루틴 개수 적재 여부
+ * @param historyCounts 날짜별 완료 히스토리 개수
+ * @param backlogCounts 날짜별 백로그 마감 개수
+ * @param routineCounts 요일(예: 월)별 루틴 개수
+ */
+public record CalendarSummary(
+        Set<YearMonth> missingMonths,
+        boolean routineLoaded,
+        Map<LocalDate, Integer> historyCounts,
+        Map<LocalDate, Integer> backlogCounts,
+        Map<String, Integer> routineCounts
+) {
+
+    public boolean isComplete() {
+        return missingMonths.isEmpty() && routineLoaded;
+    }
+
+    /**
+     * 새로 적재한 월 요약과 루틴 개수를 합친 요약을 반환합니다.
+     *
+     * @param loadedHistoryCounts 새로 적재한 날짜별 완료 히스토리 개수
+     * @param loadedBacklogCounts 새로 적재한 날짜별 백로그 마감 개수
+     * @param loadedRoutineCounts 새로 적재한 요일별 루틴 개수 (루틴을 적재하지 않았다면 null)
+     * @return 합쳐진 요약
+     */
+    public CalendarSummary merge(Map<LocalDate, Integer> loadedHistoryCounts,
+                                 Map<LocalDate, Integer> loadedBacklogCounts,
+                                 Map<String, Integer> loadedRoutineCounts) {
+        Map<LocalDate, Integer> mergedHistoryCounts = new HashMap<>(historyCounts);
+        mergedHistoryCounts.putAll(loadedHistoryCounts);
+        Map<LocalDate, Integer> mergedBacklogCounts = new HashMap<>(backlogCounts);
+        mergedBacklogCounts.putAll(loadedBacklogCounts);
+
+        return new CalendarSummary(
+                Set.of(),
+                true,
+                mergedHistoryCounts,
+                mergedBacklogCounts,
+                loadedRoutineCounts != null ? loadedRoutineCounts : routineCounts
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package server.poptato.todo.domain.value;
+
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.response.status.ErrorStatus;
+import server.poptato.global.util.CursorUtil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 지난 날짜의 히스토리 목록 커서.
+ * 히스토리는 (해당 날짜의 첫 완료 시각 ASC, id ASC) 순으로 정렬되므로, 마지막으로 내려준 항목의 두 값을 기준으로 다음 페이지를 조회합니다.
+ */
+public record HistoryCursor(
+        LocalDateTime completedDateTime,
+        Long todoId
+) {
+
+    public static HistoryCursor first(LocalDate localDate) {
+        return new HistoryCursor(localDate.atStartOfDay(), 0L);
+    }
+
+    public static HistoryCursor decode(String cursor, LocalDate localDate) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(localDate);
+        }
+        List<String> values = CursorUtil.decode(cursor, 2);
+        try {
+            return new HistoryCursor(LocalDateTime.parse(values.get(0)), Long.parseLong(values.get(1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new CustomException(ErrorStatus._INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(completedDateTime, todoId);
+    }
+}
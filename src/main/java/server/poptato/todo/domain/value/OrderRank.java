@@ -0,0 +1,214 @@
+package server.poptato.todo.domain.value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 할 일 정렬 순서(todayOrder, backlogOrder) 계산 유틸.
+ * 순서 값은 큰 값이 위에 오며, 항목 사이에 GAP 만큼의 간격을 두어 배치합니다.
+ * 새 항목은 가장 위/아래 항목과 GAP 만큼 떨어진 값으로, 이동한 항목은 앞뒤 이웃의 중간 값으로 정해지므로
+ * 다른 항목의 순서를 다시 매기지 않고 한 행만 변경할 수 있습니다.
+ * 간격이 모두 소진된 경우에는 재정렬(rebalance) 대상으로 표시되어 배치에서 다시 GAP 간격으로 정리됩니다.
+ */
+public final class OrderRank {
+
+    public static final int GAP = 1 << 10;
+    public static final int INITIAL = 0;
+
+    private static final int UPPER_BOUND = Integer.MAX_VALUE - 1;
+    private static final int LOWER_BOUND = Integer.MIN_VALUE + 1;
+
+    /**
+     * 재정렬 대상으로 판단되지 않는 가장 큰 순서 값. 여러 항목을 한 번에 쌓는 배치 쿼리의 상한으로 사용합니다.
+     */
+    public static final int MAX_UNCROWDED_ORDER = UPPER_BOUND - GAP;
+
+    private OrderRank() {
+    }
+
+    /**
+     * 가장 위 항목보다 위에 놓일 순서 값을 계산합니다.
+     *
+     * @param top 현재 가장 위 항목의 순서 값 (항목이 없으면 null)
+     * @return 새 항목의 순서 값
+     * @throws IllegalStateException 위쪽 간격이 모두 소진된 경우 ({@link #hasRoomAbove(Integer)}로 먼저 확인합니다)
+     */
+    public static int above(Integer top) {
+        if (top == null) {
+            return INITIAL;
+        }
+        if (!hasRoomAbove(top)) {
+            throw new IllegalStateException("순서 값의 위쪽 간격이 소진되어 재정렬이 필요합니다. top=" + top);
+        }
+        long candidate = (long) top + GAP;
+        if (candidate <= UPPER_BOUND) {
+            return (int) candidate;
+        }
+        return (int) (((long) top + UPPER_BOUND + 1) / 2);
+    }
+
+    /**
+     * 가장 아래 항목보다 아래에 놓일 순서 값을 계산합니다.
+     *
+     * @param bottom 현재 가장 아래 항목의 순서 값 (항목이 없으면 null)
+     * @return 새 항목의 순서 값
+     * @throws IllegalStateException 아래쪽 간격이 모두 소진된 경우 ({@link #hasRoomBelow(Integer)}로 먼저 확인합니다)
+     */
+    public static int below(Integer bottom) {
+        if (bottom == null) {
+            return INITIAL;
+        }
+        if (!hasRoomBelow(bottom)) {
+            throw new IllegalStateException("순서 값의 아래쪽 간격이 소진되어 재정렬이 필요합니다. bottom=" + bottom);
+        }
+        long candidate = (long) bottom - GAP;
+        if (candidate >= LOWER_BOUND) {
+            return (int) candidate;
+        }
+        return (int) Math.floorDiv((long) bottom + LOWER_BOUND, 2);
+    }
+
+    /**
+     * 가장 위 항목보다 큰 순서 값을 범위 안에서 만들 수 있는지 확인합니다.
+     *
+     * @param top 현재 가장 위 항목의 순서 값 (항목이 없으면 null)
+     * @return 위쪽 간격이 남아 있는지 여부
+     */
+    public static boolean hasRoomAbove(Integer top) {
+        return top == null || top < UPPER_BOUND;
+    }
+
+    /**
+     * 가장 위 항목 위에 count 개의 항목을 GAP 간격으로 놓을 수 있는지 확인합니다.
+     *
+     * @param top 현재 가장 위 항목의 순서 값 (항목이 없으면 null)
+     * @param count 놓을 항목 수
+     * @return 범위를 넘지 않고 놓을 수 있는지 여부
+     */
+    public static boolean hasRoomAbove(Integer top, int count) {
+        long start = top == null ? INITIAL - GAP : top;
+        return start + (long) GAP * count <= UPPER_BOUND;
+    }
+
+    /**
+     * 가장 아래 항목보다 작은 순서 값을 범위 안에서 만들 수 있는지 확인합니다.
+     *
+     * @param bottom 현재 가장 아래 항목의 순서 값 (항목이 없으면 null)
+     * @return 아래쪽 간격이 남아 있는지 여부
+     */
+    public static boolean hasRoomBelow(Integer bottom) {
+        return bottom == null || bottom > LOWER_BOUND;
+    }
+
+    /**
+     * 순서 값이 표현 범위의 끝에 가까워 재정렬이 필요한지 확인합니다.
+     *
+     * @param order 순서 값
+     * @return 재정렬 필요 여부
+     */
+    public static boolean isCrowded(int order) {
+        return order > MAX_UNCROWDED_ORDER || order < LOWER_BOUND + GAP;
+    }
+
+    /**
+     * 위에서부터 나열된 항목 수만큼 GAP 간격의 순서 값을 생성합니다.
+     *
+     * @param count 항목 수
+     * @return 내림차순 순서 값 목록
+     */
+    public static List<Integer> spaced(int count) {
+        List<Integer> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add((count - 1 - i) * GAP);
+        }
+        return orders;
+    }
+
+    /**
+     * 드래그 앤 드롭으로 나열된 순서를 반영하기 위한 새 순서 값을 계산합니다.
+     * 기존 순서가 이미 내림차순으로 유지되는 가장 긴 부분열은 그대로 두고,
+     * 그 밖의 항목만 앞뒤 이웃 사이의 값으로 재배치합니다.
+     * 목록의 맨 위/아래로 이동한 항목은 목록 밖의 가장 가까운 이웃(ceiling, floor)을 넘지 않도록 배치합니다.
+     *
+     * @param currentOrders 요청 순서대로 나열된 항목들의 기존 순서 값
+     * @param ceiling 목록보다 위에 있는 가장 가까운 항목의 순서 값 (없으면 null)
+     * @param floor 목록보다 아래에 있는 가장 가까운 항목의 순서 값 (없으면 null)
+     * @return 항목별 새 순서 값 (변경이 없는 항목은 기존 값), 사이 간격이 부족하면 null
+     */
+    public static int[] reorder(int[] currentOrders, Integer ceiling, Integer floor) {
+        int size = currentOrders.length;
+        int[] result = Arrays.copyOf(currentOrders, size);
+        if (size < 2) {
+            return result;
+        }
+
+        boolean[] fixed = longestDescendingRun(currentOrders);
+        long upper = ceiling != null
+                ? ceiling
+                : Math.min((long) Arrays.stream(currentOrders).max().getAsInt() + (long) GAP * size, UPPER_BOUND + 1L);
+        long lower = floor != null
+                ? floor
+                : Math.max((long) Arrays.stream(currentOrders).min().getAsInt() - (long) GAP * size, LOWER_BOUND - 1L);
+
+        int index = 0;
+        while (index < size) {
+            if (fixed[index]) {
+                index++;
+                continue;
+            }
+            int start = index;
+            while (index < size && !fixed[index]) {
+                index++;
+            }
+            long high = start == 0 ? upper : result[start - 1];
+            long low = index == size ? lower : result[index];
+            int count = index - start;
+            long step = (high - low) / (count + 1);
+            if (step < 1) {
+                return null;
+            }
+            for (int i = 0; i < count; i++) {
+                result[start + i] = (int) (high - step * (i + 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 순서 값이 엄격한 내림차순을 이루는 가장 긴 부분열을 찾아 해당 위치를 표시합니다.
+     *
+     * @param orders 순서 값 목록
+     * @return 부분열에 포함되는 위치 여부
+     */
+    private static boolean[] longestDescendingRun(int[] orders) {
+        int size = orders.length;
+        int[] tailIndexes = new int[size];
+        int[] previous = new int[size];
+        int length = 0;
+
+        for (int i = 0; i < size; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (orders[tailIndexes[mid]] > orders[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tailIndexes[low - 1] : -1;
+            tailIndexes[low] = i;
+            if (low == length) {
+                length++;
+            }
+        }
+
+        boolean[] fixed = new boolean[size];
+        for (int i = length > 0 ? tailIndexes[length - 1] : -1; i >= 0; i = previous[i]) {
+            fixed[i] = true;
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,36 @@
+package server.poptato.todo.domain.value;
+
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.response.status.ErrorStatus;
+import server.poptato.global.util.CursorUtil;
+
+import java.util.List;
+
+/**
+ * 미래 날짜의 히스토리(예정 할 일) 목록 커서.
+ * 예정 할 일은 id ASC 순으로 정렬되므로, 마지막으로 내려준 항목의 id를 기준으로 다음 페이지를 조회합니다.
+ */
+public record PlanHistoryCursor(
+        Long todoId
+) {
+
+    public static PlanHistoryCursor first() {
+        return new PlanHistoryCursor(0L);
+    }
+
+    public static PlanHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        List<String> values = CursorUtil.decode(cursor, 1);
+        try {
+            return new PlanHistoryCursor(Long.parseLong(values.get(0)));
+        } catch (NumberFormatException e) {
+            throw new CustomException(ErrorStatus._INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(todoId);
+    }
+}
@@ -0,0 +1,45 @@
+package server.poptato.todo.domain.value;
+
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.response.status.ErrorStatus;
+import server.poptato.global.util.CursorUtil;
+import server.poptato.todo.domain.entity.Todo;
+
+import java.util.List;
+
+/**
+ * 오늘 날짜의 히스토리 목록 커서.
+ * 오늘 할 일은 미완료 할 일을 먼저, 완료한 할 일을 이어서 각각 (todayOrder DESC, id ASC) 순으로 정렬되므로,
+ * 마지막으로 내려준 항목의 상태, todayOrder, id를 기준으로 다음 페이지를 조회합니다.
+ */
+public record TodayHistoryCursor(
+        TodayStatus todayStatus,
+        Integer todayOrder,
+        Long todoId
+) {
+
+    public static TodayHistoryCursor first() {
+        return new TodayHistoryCursor(TodayStatus.INCOMPLETE, Integer.MAX_VALUE, 0L);
+    }
+
+    public static TodayHistoryCursor from(Todo todo) {
+        return new TodayHistoryCursor(todo.getTodayStatus(), todo.getTodayOrder(), todo.getId());
+    }
+
+    public static TodayHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        List<String> values = CursorUtil.decode(cursor, 3);
+        try {
+            return new TodayHistoryCursor(
+                    TodayStatus.valueOf(values.get(0)), Integer.valueOf(values.get(1)), Long.parseLong(values.get(2)));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorStatus._INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        return CursorUtil.encode(todayStatus, todayOrder, todoId);
+    }
+}
@@ -1,13 +1,13 @@
 package server.poptato.todo.infra.repository;
 
+import jakarta.persistence.Tuple;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import server.poptato.todo.domain.entity.CompletedDateTime;
 import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
 
-import java.sql.Timestamp;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,26 +15,29 @@ public interface JpaCompletedDateTimeRepository extends CompletedDateTimeReposit
 
     @Query("""
     SELECT c
-    FROM CompletedDateTime c 
+    FROM CompletedDateTime c
     WHERE c.todoId = :todoId
-      AND FUNCTION('DATE', c.dateTime) = :todayDate
+      AND c.dateTime >= :startDateTime
+      AND c.dateTime < :endDateTime
     """)
-    Optional<CompletedDateTime> findByTodoIdAndDate(
+    Optional<CompletedDateTime> findByTodoIdAndDateTimeRange(
             @Param("todoId") Long todoId,
-            @Param("todayDate") LocalDate todayDate
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
     );
 
     @Query(value = """
-    SELECT DISTINCT c.date_time
+    SELECT DATE(c.date_time) AS date, COUNT(*) AS count
     FROM completed_date_time c
     JOIN todo t ON c.todo_id = t.id
     WHERE t.user_id = :userId
-      AND YEAR(c.date_time) = :year
-      AND MONTH(c.date_time) = :month
+      AND c.date_time >= :startDateTime
+      AND c.date_time < :endDateTime
+    GROUP BY DATE(c.date_time)
     """, nativeQuery = true)
-    List<Timestamp> findDistinctCompletedDateTimesByUserIdAndYearMonth(
+    List<Tuple> findDatesWithHistoryCount(
             @Param("userId") Long userId,
-            @Param("year") String year,
-            @Param("month") int month
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime
     );
 }
@@ -0,0 +1,41 @@
+package server.poptato.todo.infra.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import server.poptato.todo.domain.entity.CompletedDateTime;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * {@link JpaCompletedDateTimeRepository}의 사용자 정의 구현입니다.
+ */
+@RequiredArgsConstructor
+public class JpaCompletedDateTimeRepositoryImpl {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 여러 완료 시간을 JDBC 배치 INSERT로 저장합니다.
+     * 어제 한 일 체크처럼 여러 할 일을 한 번에 달성 처리할 때 사용하며, 생성된 ID가 필요 없으므로 엔티티를 영속화하지 않습니다.
+     *
+     * @param completedDateTimes 저장할 완료 시간 목록
+     */
+    public void insertAll(List<CompletedDateTime> completedDateTimes) {
+        if (completedDateTimes == null || completedDateTimes.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO completed_date_time (todo_id, date_time, create_date, modify_date) VALUES (?, ?, ?, ?)",
+                completedDateTimes,
+                completedDateTimes.size(),
+                (ps, completedDateTime) -> {
+                    ps.setLong(1, completedDateTime.getTodoId());
+                    ps.setTimestamp(2, Timestamp.valueOf(completedDateTime.getDateTime()));
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+    }
+}
@@ -18,6 +18,8 @@ public interface JpaRoutineRepository extends JpaRepository<Routine, Long> {
 
 	List<Routine> findAllByTodoId(Long todoId);
 
+	List<Routine> findAllByTodoIdIn(List<Long> todoIds);
+
 	@Query("""
        SELECT r.day AS day, COUNT(r) AS count
        FROM Routine r
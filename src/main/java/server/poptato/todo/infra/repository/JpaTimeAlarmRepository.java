@@ -1,9 +1,13 @@
 package server.poptato.todo.infra.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import server.poptato.todo.domain.entity.TimeAlarm;
+import server.poptato.todo.domain.projection.TimeAlarmPushTargetProjection;
 import server.poptato.todo.domain.repository.TimeAlarmRepository;
 
 import java.time.LocalTime;
@@ -12,16 +16,39 @@ import java.util.List;
 public interface JpaTimeAlarmRepository extends TimeAlarmRepository, JpaRepository<TimeAlarm, Long> {
 
     @Query("""
-        SELECT ta
+        SELECT ta.id
         FROM TimeAlarm ta
         JOIN Todo t ON ta.todoId = t.id
         JOIN User u ON ta.userId = u.id
-        WHERE t.type = 'TODAY'
+        WHERE ta.id > :lastAlarmId
+          AND t.type = 'TODAY'
           AND t.time BETWEEN :from AND :to
           AND t.todayStatus = 'INCOMPLETE'
           AND ta.notified = false
           AND u.isPushAlarm = true
+        ORDER BY ta.id
     """)
-    List<TimeAlarm> findPushEnabledAlarms(@Param("from") LocalTime from, @Param("to") LocalTime to);
+    List<Long> findPushEnabledAlarmIdsAfter(@Param("from") LocalTime from,
+                                            @Param("to") LocalTime to,
+                                            @Param("lastAlarmId") Long lastAlarmId,
+                                            Pageable pageable);
 
+    @Query("""
+        SELECT ta.id AS alarmId, m.clientId AS clientId, t.content AS content
+        FROM TimeAlarm ta
+        JOIN Todo t ON ta.todoId = t.id
+        JOIN Mobile m ON m.userId = ta.userId
+        WHERE ta.id IN :alarmIds
+    """)
+    List<TimeAlarmPushTargetProjection> findPushTargets(@Param("alarmIds") List<Long> alarmIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE TimeAlarm ta SET ta.notified = true WHERE ta.id IN :alarmIds")
+    int markNotified(@Param("alarmIds") List<Long> alarmIds);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TimeAlarm ta WHERE ta.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
@@ -3,106 +3,156 @@ package server.poptato.todo.infra.repository;
 import jakarta.persistence.Tuple;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.HistoryProjection;
+import server.poptato.todo.domain.projection.TodoDetailProjection;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 
 public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
 
-    @Query("""
+    @Query(value = """
         SELECT t
         FROM Todo t
-        JOIN CompletedDateTime c ON t.id = c.todoId
+        LEFT JOIN CompletedDateTime c
+          ON c.todoId = t.id
+         AND t.todayStatus = 'COMPLETED'
+         AND c.dateTime >= :startDateTime
+         AND c.dateTime < :endDateTime
+        WHERE t.userId = :userId
+          AND t.type = 'TODAY'
+          AND ((t.todayStatus = 'INCOMPLETE' AND t.todayDate = :todayDate)
+            OR (t.todayStatus = 'COMPLETED' AND c.id IS NOT NULL))
+        ORDER BY CASE WHEN t.todayStatus = 'INCOMPLETE' THEN 0 ELSE 1 END ASC,
+                 t.todayOrder DESC,
+                 c.dateTime ASC,
+                 t.id ASC
+    """, countQuery = """
+        SELECT COUNT(t)
+        FROM Todo t
+        LEFT JOIN CompletedDateTime c
+          ON c.todoId = t.id
+         AND t.todayStatus = 'COMPLETED'
+         AND c.dateTime >= :startDateTime
+         AND c.dateTime < :endDateTime
         WHERE t.userId = :userId
           AND t.type = 'TODAY'
-          AND t.todayStatus = 'COMPLETED'
-          AND FUNCTION('DATE', c.dateTime) = :todayDate
-        ORDER BY c.dateTime ASC
+          AND ((t.todayStatus = 'INCOMPLETE' AND t.todayDate = :todayDate)
+            OR (t.todayStatus = 'COMPLETED' AND c.id IS NOT NULL))
     """)
-    List<Todo> findCompletedTodays(
+    Page<Todo> findTodays(
             @Param("userId") Long userId,
-            @Param("todayDate") LocalDate todayDate
+            @Param("todayDate") LocalDate todayDate,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            Pageable pageable
     );
 
     @EntityGraph(attributePaths = {"category", "category.emoji"})
-    @Query("""
+    @Query(value = """
         SELECT t
         FROM Todo t
+        LEFT JOIN CompletedDateTime c
+          ON c.todoId = t.id
+         AND t.todayStatus = 'COMPLETED'
+         AND c.dateTime >= :startDateTime
+         AND c.dateTime < :endDateTime
         WHERE t.userId = :userId
-          AND t.type = :type
-          AND t.todayDate = :todayDate
-          AND t.todayStatus = :todayStatus
-        ORDER BY t.todayOrder DESC
+          AND t.type = 'TODAY'
+          AND ((t.todayStatus = 'INCOMPLETE' AND t.todayDate = :todayDate)
+            OR (t.todayStatus = 'COMPLETED' AND c.id IS NOT NULL))
+        ORDER BY CASE WHEN t.todayStatus = 'INCOMPLETE' THEN 0 ELSE 1 END ASC,
+                 t.todayOrder DESC,
+                 c.dateTime ASC,
+                 t.id ASC
+    """, countQuery = """
+        SELECT COUNT(t)
+        FROM Todo t
+        LEFT JOIN CompletedDateTime c
+          ON c.todoId = t.id
+         AND t.todayStatus = 'COMPLETED'
+         AND c.dateTime >= :startDateTime
+         AND c.dateTime < :endDateTime
+        WHERE t.userId = :userId
+          AND t.type = 'TODAY'
+          AND ((t.todayStatus = 'INCOMPLETE' AND t.todayDate = :todayDate)
+            OR (t.todayStatus = 'COMPLETED' AND c.id IS NOT NULL))
     """)
-    List<Todo> findIncompleteTodays(
+    Page<Todo> findTodaysWithCategory(
             @Param("userId") Long userId,
-            @Param("type") Type type,
             @Param("todayDate") LocalDate todayDate,
-            @Param("todayStatus") TodayStatus todayStatus
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            Pageable pageable
     );
 
+    Page<Todo> findByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus, Pageable pageable);
+
     @Query("""
-    SELECT t
-    FROM Todo t
-    WHERE t.userId = :userId
-      AND t.type = :type
-      AND t.todayDate = :todayDate
-      AND t.todayStatus = :todayStatus
-    ORDER BY t.todayOrder DESC
+        SELECT t.todayOrder
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.todayOrder < :bound
+        ORDER BY t.todayOrder DESC
     """)
-    List<Todo> findIncompleteTodaysWithCategory(@Param("userId") Long userId,
-                                     @Param("type") Type type,
-                                     @Param("todayDate") LocalDate todayDate,
-                                     @Param("todayStatus") TodayStatus todayStatus);
+    List<Integer> findTodayOrdersBelow(@Param("userId") Long userId, @Param("bound") int bound, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"category", "category.emoji"})
     @Query("""
-        SELECT t
+        SELECT t.todayOrder
         FROM Todo t
-        JOIN CompletedDateTime c ON t.id = c.todoId
         WHERE t.userId = :userId
-          AND t.type = 'TODAY'
-          AND t.todayStatus = 'COMPLETED'
-          AND FUNCTION('DATE', c.dateTime) = :todayDate
-        ORDER BY c.dateTime ASC
+          AND t.todayOrder > :bound
+        ORDER BY t.todayOrder ASC
     """)
-    List<Todo> findCompletedTodaysWithCategory(
-            @Param("userId") Long userId,
-            @Param("todayDate") LocalDate todayDate
-    );
+    List<Integer> findTodayOrdersAbove(@Param("userId") Long userId, @Param("bound") int bound, Pageable pageable);
 
-    Page<Todo> findByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus, Pageable pageable);
+    @Query("""
+        SELECT t.backlogOrder
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.backlogOrder < :bound
+        ORDER BY t.backlogOrder DESC
+    """)
+    List<Integer> findBacklogOrdersBelow(@Param("userId") Long userId, @Param("bound") int bound, Pageable pageable);
 
     @Query("""
-        SELECT COALESCE(MAX(t.todayOrder), 0)
+        SELECT t.backlogOrder
         FROM Todo t
         WHERE t.userId = :userId
-          AND t.todayOrder IS NOT NULL
+          AND t.backlogOrder > :bound
+        ORDER BY t.backlogOrder ASC
     """)
-    Integer findMaxTodayOrderByUserIdOrZero(Long userId);
+    List<Integer> findBacklogOrdersAbove(@Param("userId") Long userId, @Param("bound") int bound, Pageable pageable);
 
     @Query("""
-        SELECT COALESCE(MIN(t.todayOrder), 0)
+        SELECT t
         FROM Todo t
         WHERE t.userId = :userId
           AND t.todayOrder IS NOT NULL
+        ORDER BY t.todayOrder DESC, t.id ASC
     """)
-    Integer findMinTodayOrderByUserIdOrZero(Long userId);
+    List<Todo> findAllTodayOrdered(@Param("userId") Long userId);
 
     @Query("""
-        SELECT COALESCE(MAX(t.backlogOrder), 0)
+        SELECT t
         FROM Todo t
         WHERE t.userId = :userId
           AND t.backlogOrder IS NOT NULL
+        ORDER BY t.backlogOrder DESC, t.id DESC
     """)
-    Integer findMaxBacklogOrderByUserIdOrZero(Long userId);
+    List<Todo> findAllBacklogOrdered(@Param("userId") Long userId);
 
     @EntityGraph(attributePaths = {"category", "category.emoji"})
     @Query("""
@@ -168,42 +218,331 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
             Pageable pageable
     );
 
-    @Query("""
+    @Query(value = """
         SELECT t
         FROM Todo t
-        WHERE t.id IN (
-            SELECT c.todoId
-            FROM CompletedDateTime c
-            WHERE DATE(c.dateTime) = :localDate
-        )
-          AND t.userId = :userId
-        ORDER BY (
-            SELECT c.dateTime
-            FROM CompletedDateTime c
-            WHERE c.todoId = t.id
-              AND DATE(c.dateTime) = :localDate
-        ) ASC
+        JOIN CompletedDateTime c ON c.todoId = t.id
+        WHERE t.userId = :userId
+          AND c.dateTime >= :startDateTime
+          AND c.dateTime < :endDateTime
+        GROUP BY t.id
+        ORDER BY MIN(c.dateTime) ASC, t.id ASC
+    """, countQuery = """
+        SELECT COUNT(DISTINCT t.id)
+        FROM Todo t
+        JOIN CompletedDateTime c ON c.todoId = t.id
+        WHERE t.userId = :userId
+          AND c.dateTime >= :startDateTime
+          AND c.dateTime < :endDateTime
     """)
     Page<Todo> findHistories(
             @Param("userId") Long userId,
-            @Param("localDate") LocalDate localDate,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
             Pageable pageable
     );
 
-    List<Todo> findByType(Type type);
+    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @Query("""
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.type = :type
+          AND (t.todayStatus != :status OR t.todayStatus IS NULL)
+          AND ((:lastBacklogOrder IS NOT NULL
+                AND (t.backlogOrder < :lastBacklogOrder
+                  OR (t.backlogOrder = :lastBacklogOrder AND t.id < :lastTodoId)
+                  OR t.backlogOrder IS NULL))
+            OR (:lastBacklogOrder IS NULL AND t.backlogOrder IS NULL AND t.id < :lastTodoId))
+        ORDER BY t.backlogOrder DESC, t.id DESC
+    """)
+    Slice<Todo> findAllBacklogsByCursor(
+            @Param("userId") Long userId,
+            @Param("type") Type type,
+            @Param("status") TodayStatus status,
+            @Param("lastBacklogOrder") Integer lastBacklogOrder,
+            @Param("lastTodoId") Long lastTodoId,
+            Pageable pageable
+    );
 
-    void deleteAllByCategoryId(Long categoryId);
+    @EntityGraph(attributePaths = {"category", "category.emoji"})
+    @Query("""
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.isBookmark = true
+          AND t.type = :type
+          AND (t.todayStatus != :status OR t.todayStatus IS NULL)
+          AND ((:lastBacklogOrder IS NOT NULL
+                AND (t.backlogOrder < :lastBacklogOrder
+                  OR (t.backlogOrder = :lastBacklogOrder AND t.id < :lastTodoId)
+                  OR t.backlogOrder IS NULL))
+            OR (:lastBacklogOrder IS NULL AND t.backlogOrder IS NULL AND t.id < :lastTodoId))
+        ORDER BY t.backlogOrder DESC, t.id DESC
+    """)
+    Slice<Todo> findBookmarkBacklogsByCursor(
+            @Param("userId") Long userId,
+            @Param("type") Type type,
+            @Param("status") TodayStatus status,
+            @Param("lastBacklogOrder") Integer lastBacklogOrder,
+            @Param("lastTodoId") Long lastTodoId,
+            Pageable pageable
+    );
 
+    @EntityGraph(attributePaths = {"category", "category.emoji"})
     @Query("""
-    SELECT t FROM Todo t
-    WHERE t.userId = :userId
-      AND t.todayStatus = :todayStatus
-      AND t.type = 'TODAY'
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.categoryId = :categoryId
+          AND t.type = :type
+          AND (t.todayStatus != :status OR t.todayStatus IS NULL)
+          AND ((:lastBacklogOrder IS NOT NULL
+                AND (t.backlogOrder < :lastBacklogOrder
+                  OR (t.backlogOrder = :lastBacklogOrder AND t.id < :lastTodoId)
+                  OR t.backlogOrder IS NULL))
+            OR (:lastBacklogOrder IS NULL AND t.backlogOrder IS NULL AND t.id < :lastTodoId))
+        ORDER BY t.backlogOrder DESC, t.id DESC
+    """)
+    Slice<Todo> findBacklogsByCategoryIdByCursor(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") Type type,
+            @Param("status") TodayStatus status,
+            @Param("lastBacklogOrder") Integer lastBacklogOrder,
+            @Param("lastTodoId") Long lastTodoId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT t.id AS todoId,
+               t.content AS content,
+               t.time AS todoTime,
+               MIN(c.dateTime) AS completedDateTime
+        FROM Todo t
+        JOIN CompletedDateTime c ON c.todoId = t.id
+        WHERE t.userId = :userId
+          AND c.dateTime >= :startDateTime
+          AND c.dateTime < :endDateTime
+        GROUP BY t.id
+        HAVING MIN(c.dateTime) > :lastCompletedDateTime
+            OR (MIN(c.dateTime) = :lastCompletedDateTime AND t.id > :lastTodoId)
+        ORDER BY MIN(c.dateTime) ASC, t.id ASC
+    """)
+    Slice<HistoryProjection> findHistoriesByCursor(
+            @Param("userId") Long userId,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("lastCompletedDateTime") LocalDateTime lastCompletedDateTime,
+            @Param("lastTodoId") Long lastTodoId,
+            Pageable pageable
+    );
+
+    @Query("""
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.type = 'TODAY'
+          AND ((t.todayStatus = 'INCOMPLETE' AND t.todayDate = :todayDate)
+            OR (t.todayStatus = 'COMPLETED' AND EXISTS (
+                SELECT 1 FROM CompletedDateTime c
+                WHERE c.todoId = t.id
+                  AND c.dateTime >= :startDateTime
+                  AND c.dateTime < :endDateTime)))
+          AND ((t.todayStatus = 'COMPLETED' AND t.todayStatus <> :lastTodayStatus)
+            OR (t.todayStatus = :lastTodayStatus
+                AND (t.todayOrder < :lastTodayOrder
+                  OR (t.todayOrder = :lastTodayOrder AND t.id > :lastTodoId))))
+        ORDER BY CASE WHEN t.todayStatus = 'INCOMPLETE' THEN 0 ELSE 1 END ASC,
+                 t.todayOrder DESC,
+                 t.id ASC
     """)
-    List<Todo> findIncompleteTodayTodos(@Param("userId") Long userId,
-                                 @Param("todayStatus") TodayStatus todayStatus
+    Slice<Todo> findTodaysByCursor(
+            @Param("userId") Long userId,
+            @Param("todayDate") LocalDate todayDate,
+            @Param("startDateTime") LocalDateTime startDateTime,
+            @Param("endDateTime") LocalDateTime endDateTime,
+            @Param("lastTodayStatus") TodayStatus lastTodayStatus,
+            @Param("lastTodayOrder") Integer lastTodayOrder,
+            @Param("lastTodoId") Long lastTodoId,
+            Pageable pageable
     );
 
+    /**
+     * 지정한 사용자들의 TODAY 할 일을 하루 마감 상태로 일괄 변경합니다.
+     * - 미완료(INCOMPLETE) 할 일 → YESTERDAY
+     * - 완료된 반복/요일 반복 할 일 → BACKLOG
+     * 두 경우 모두 사용자의 기존 백로그 최상단 위로 id 순서대로 GAP 간격의 backlog_order를 부여합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE todo t
+        JOIN (
+            SELECT x.id,
+                   COALESCE(m.max_order + :gap, 0)
+                       + :gap * (ROW_NUMBER() OVER (PARTITION BY x.user_id ORDER BY x.id) - 1) AS new_order
+            FROM todo x
+            LEFT JOIN (
+                SELECT b.user_id, MAX(b.backlog_order) AS max_order
+                FROM todo b
+                WHERE b.user_id IN (:userIds)
+                  AND b.backlog_order IS NOT NULL
+                GROUP BY b.user_id
+            ) m ON m.user_id = x.user_id
+            WHERE x.user_id IN (:userIds)
+              AND x.type = 'TODAY'
+              AND (x.today_status = 'INCOMPLETE'
+                OR (x.today_status = 'COMPLETED' AND (x.is_repeat = TRUE OR x.is_routine = TRUE)))
+        ) r ON r.id = t.id
+        SET t.type = CASE WHEN t.today_status = 'INCOMPLETE' THEN 'YESTERDAY' ELSE 'BACKLOG' END,
+            t.today_status = CASE WHEN t.today_status = 'INCOMPLETE' THEN 'INCOMPLETE' ELSE NULL END,
+            t.today_order = NULL,
+            t.backlog_order = r.new_order
+    """, nativeQuery = true)
+    int rolloverTodayTodos(@Param("userIds") List<Long> userIds, @Param("gap") int gap);
+
+    /**
+     * 하루 마감으로 백로그에 쌓일 할 일에 GAP 간격의 backlog_order를 부여하면 maxOrder를 넘는 사용자를 조회합니다.
+     * {@link #rolloverTodayTodos}와 같은 대상, 같은 계산식을 사용합니다.
+     */
+    @Query(value = """
+        SELECT x.user_id
+        FROM todo x
+        LEFT JOIN (
+            SELECT b.user_id, MAX(b.backlog_order) AS max_order
+            FROM todo b
+            WHERE b.user_id IN (:userIds)
+              AND b.backlog_order IS NOT NULL
+            GROUP BY b.user_id
+        ) m ON m.user_id = x.user_id
+        WHERE x.user_id IN (:userIds)
+          AND x.type = 'TODAY'
+          AND (x.today_status = 'INCOMPLETE'
+            OR (x.today_status = 'COMPLETED' AND (x.is_repeat = TRUE OR x.is_routine = TRUE)))
+        GROUP BY x.user_id, m.max_order
+        HAVING COALESCE(m.max_order, -:gap) + :gap * COUNT(*) > :maxOrder
+    """, nativeQuery = true)
+    List<Long> findUserIdsWithoutRolloverRoom(@Param("userIds") List<Long> userIds,
+                                              @Param("gap") int gap,
+                                              @Param("maxOrder") int maxOrder);
+
+    /**
+     * 지정한 사용자들의 BACKLOG 할 일 중 마감기한이 오늘이거나 요일 반복이 오늘인 할 일을 TODAY로 일괄 변경합니다.
+     * 사용자의 기존 오늘 할 일 최상단 위로, 마감기한 일치 → 요일 반복 일치, id 순서대로 GAP 간격의 today_order를 부여합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        UPDATE todo t
+        JOIN (
+            SELECT x.id,
+                   COALESCE(m.max_order + :gap, 0)
+                       + :gap * (ROW_NUMBER() OVER (
+                           PARTITION BY x.user_id
+                           ORDER BY CASE WHEN x.deadline = :today THEN 0 ELSE 1 END, x.id) - 1) AS new_order
+            FROM todo x
+            LEFT JOIN (
+                SELECT o.user_id, MAX(o.today_order) AS max_order
+                FROM todo o
+                WHERE o.user_id IN (:userIds)
+                  AND o.today_order IS NOT NULL
+                GROUP BY o.user_id
+            ) m ON m.user_id = x.user_id
+            WHERE x.user_id IN (:userIds)
+              AND x.type = 'BACKLOG'
+              AND (x.deadline = :today
+                OR EXISTS (SELECT 1 FROM routine r WHERE r.todo_id = x.id AND r.day = :todayDay))
+        ) p ON p.id = t.id
+        SET t.type = 'TODAY',
+            t.backlog_order = NULL,
+            t.today_order = p.new_order,
+            t.today_status = 'INCOMPLETE',
+            t.today_date = :today
+    """, nativeQuery = true)
+    int promoteDueTodos(@Param("userIds") List<Long> userIds,
+                        @Param("today") LocalDate today,
+                        @Param("todayDay") String todayDay,
+                        @Param("gap") int gap);
+
+    /**
+     * 오늘 할 일로 올라갈 할 일에 GAP 간격의 today_order를 부여하면 maxOrder를 넘는 사용자를 조회합니다.
+     * {@link #promoteDueTodos}와 같은 대상, 같은 계산식을 사용합니다.
+     */
+    @Query(value = """
+        SELECT x.user_id
+        FROM todo x
+        LEFT JOIN (
+            SELECT o.user_id, MAX(o.today_order) AS max_order
+            FROM todo o
+            WHERE o.user_id IN (:userIds)
+              AND o.today_order IS NOT NULL
+            GROUP BY o.user_id
+        ) m ON m.user_id = x.user_id
+        WHERE x.user_id IN (:userIds)
+          AND x.type = 'BACKLOG'
+          AND (x.deadline = :today
+            OR EXISTS (SELECT 1 FROM routine r WHERE r.todo_id = x.id AND r.day = :todayDay))
+        GROUP BY x.user_id, m.max_order
+        HAVING COALESCE(m.max_order, -:gap) + :gap * COUNT(*) > :maxOrder
+    """, nativeQuery = true)
+    List<Long> findUserIdsWithoutPromotionRoom(@Param("userIds") List<Long> userIds,
+                                               @Param("today") LocalDate today,
+                                               @Param("todayDay") String todayDay,
+                                               @Param("gap") int gap,
+                                               @Param("maxOrder") int maxOrder);
+
+    /**
+     * 지정한 사용자 ID 범위의 모든 사용자에게 이벤트 오늘 할 일을 하나의 INSERT ... SELECT 문으로 생성합니다.
+     * 각 사용자의 기존 오늘 할 일 최상단보다 GAP 만큼 위의 today_order를 부여합니다.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO todo (user_id, type, content, time, is_bookmark, is_repeat, is_routine, is_event,
+                          today_date, today_status, today_order, create_date, modify_date)
+        SELECT u.id, 'TODAY', :content, :time, :isBookmark, false, false, true,
+               :today, 'INCOMPLETE', COALESCE(m.max_order + :gap, 0), NOW(), NOW()
+        FROM users u
+        LEFT JOIN (
+            SELECT o.user_id, MAX(o.today_order) AS max_order
+            FROM todo o
+            WHERE o.user_id BETWEEN :fromUserId AND :toUserId
+              AND o.today_order IS NOT NULL
+            GROUP BY o.user_id
+        ) m ON m.user_id = u.id
+        WHERE u.id BETWEEN :fromUserId AND :toUserId
+    """, nativeQuery = true)
+    int insertEventTodayTodos(@Param("fromUserId") Long fromUserId,
+                              @Param("toUserId") Long toUserId,
+                              @Param("content") String content,
+                              @Param("time") LocalTime time,
+                              @Param("isBookmark") boolean isBookmark,
+                              @Param("today") LocalDate today,
+                              @Param("gap") int gap);
+
+    @Query("""
+        SELECT t.id
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.id > :lastTodoId
+        ORDER BY t.id
+    """)
+    List<Long> findIdsByUserIdAfter(@Param("userId") Long userId,
+                                    @Param("lastTodoId") Long lastTodoId,
+                                    Pageable pageable);
+
+    @Query("""
+        SELECT t.id
+        FROM Todo t
+        WHERE t.categoryId = :categoryId
+          AND t.id > :lastTodoId
+        ORDER BY t.id
+    """)
+    List<Long> findIdsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                        @Param("lastTodoId") Long lastTodoId,
+                                        Pageable pageable);
+
     @Query("""
     SELECT t FROM Todo t
     WHERE t.type = 'BACKLOG'
@@ -213,6 +552,43 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
     List<Todo> findTodosByDeadLine(@Param("userId") Long userId,
                                  @Param("deadline") LocalDate deadline);
 
+    @Query(value = """
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.type = 'BACKLOG'
+          AND (t.deadline = :targetDate
+            OR EXISTS (SELECT 1 FROM Routine r WHERE r.todoId = t.id AND r.day = :dayName))
+        ORDER BY t.id ASC
+    """, countQuery = """
+        SELECT COUNT(t)
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.type = 'BACKLOG'
+          AND (t.deadline = :targetDate
+            OR EXISTS (SELECT 1 FROM Routine r WHERE r.todoId = t.id AND r.day = :dayName))
+    """)
+    Page<Todo> findFuturePlanTodos(@Param("userId") Long userId,
+                                   @Param("targetDate") LocalDate targetDate,
+                                   @Param("dayName") String dayName,
+                                   Pageable pageable);
+
+    @Query("""
+        SELECT t
+        FROM Todo t
+        WHERE t.userId = :userId
+          AND t.type = 'BACKLOG'
+          AND (t.deadline = :targetDate
+            OR EXISTS (SELECT 1 FROM Routine r WHERE r.todoId = t.id AND r.day = :dayName))
+          AND t.id > :lastTodoId
+        ORDER BY t.id ASC
+    """)
+    Slice<Todo> findFuturePlanTodosByCursor(@Param("userId") Long userId,
+                                            @Param("targetDate") LocalDate targetDate,
+                                            @Param("dayName") String dayName,
+                                            @Param("lastTodoId") Long lastTodoId,
+                                            Pageable pageable);
+
     @Query(value = """
     SELECT t.* FROM todo t
     JOIN routine r ON t.id = r.todo_id
@@ -237,23 +613,36 @@ public interface JpaTodoRepository extends JpaRepository<Todo, Long> {
         SELECT t.deadline AS date, COUNT(*) AS count
         FROM todo t
         WHERE t.user_id = :userId
-          AND t.deadline IS NOT NULL
-          AND t.deadline > CURDATE()
-          AND YEAR(t.deadline) = :year
-          AND MONTH(t.deadline) = :month
           AND t.type = 'BACKLOG'
+          AND t.deadline >= :startDate
+          AND t.deadline < :endDate
         GROUP BY t.deadline
         ORDER BY t.deadline
     """, nativeQuery = true)
-    List<Tuple> findDatesWithBacklogCount(Long userId, String year, int month);
-
-    boolean existsByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus);
+    List<Tuple> findDatesWithBacklogCount(@Param("userId") Long userId,
+                                          @Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
 
-    @Query(value = """
-    SELECT t.user_id AS userId, COALESCE(MAX(t.today_order), 0) AS maxOrder
-    FROM todo t
-    WHERE t.user_id IN (:userIds)
-    GROUP BY t.user_id
-    """, nativeQuery = true)
-    List<Tuple> findMaxTodayOrdersByUserIds(@Param("userIds") List<Long> userIds);
+    @Query("""
+        SELECT t.id AS todoId,
+               t.content AS content,
+               t.time AS todoTime,
+               t.deadline AS deadline,
+               c.name AS categoryName,
+               e.imageUrl AS emojiImageUrl,
+               t.isBookmark AS isBookmark,
+               t.isRepeat AS isRepeat,
+               t.isRoutine AS isRoutine,
+               LISTAGG(r.day, ',') WITHIN GROUP (ORDER BY r.id) AS routineDays
+        FROM Todo t
+        JOIN User u ON u.id = t.userId
+        LEFT JOIN Category c ON c.id = t.categoryId
+        LEFT JOIN Emoji e ON e.id = c.emojiId
+        LEFT JOIN Routine r ON r.todoId = t.id
+        WHERE t.userId = :userId
+          AND t.id IN :todoIds
+        GROUP BY t.id, t.content, t.time, t.deadline, c.name, e.imageUrl, t.isBookmark, t.isRepeat, t.isRoutine
+    """)
+    List<TodoDetailProjection> findTodoDetails(@Param("userId") Long userId,
+                                               @Param("todoIds") List<Long> todoIds);
 }
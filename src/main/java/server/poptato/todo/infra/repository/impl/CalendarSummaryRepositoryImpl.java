@@ -0,0 +1,258 @@
+package server.poptato.todo.infra.repository.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
+import server.poptato.todo.domain.value.CalendarSummary;
+
+/**
+ * 캘린더 요약을 사용자별 Redis 해시 하나(calendar:{epoch}:{userId})에 저장합니다.
+ * - 월 요약 적재 여부는 M:{yyyy-MM}, 루틴 개수 적재 여부는 R 필드로 표시합니다.
+ * - 날짜별 값은 H:{yyyy-MM-dd}(완료 히스토리), B:{yyyy-MM-dd}(백로그 마감), 요일별 값은 R:{요일} 필드에 저장합니다.
+ * - 증감은 해당 월/루틴이 적재되어 있을 때만 반영하므로, 적재되지 않은 부분은 다음 조회 시 DB에서 다시 만들어집니다.
+ * - DB 집계 전에 L:{yyyy-MM}, L:R 필드에 적재 토큰을 기록합니다. 집계 중 들어온 증감은 이 토큰을 지우며,
+ *   토큰이 그대로 남아 있을 때만 집계 결과를 저장하므로 집계 이후 커밋된 변경이 오래된 집계로 덮이지 않습니다.
+ * - epoch 를 올리면 모든 사용자의 요약이 한 번에 무효화됩니다. epoch 는 인스턴스에 보관하고 Redis 채널로 변경을 전파합니다.
+ */
+@Slf4j
+@Repository
+public class CalendarSummaryRepositoryImpl implements CalendarSummaryRepository, MessageListener {
+
+    private static final String KEY_PREFIX = "calendar:";
+    private static final String EPOCH_KEY = "calendar:epoch";
+    private static final String EPOCH_CHANNEL = "cache:calendar-epoch";
+    private static final Duration EPOCH_REFRESH_INTERVAL = Duration.ofMinutes(1);
+    private static final Duration TTL = Duration.ofDays(2);
+
+    private static final String MONTH_MARKER_PREFIX = "M:";
+    private static final String ROUTINE_MARKER = "R";
+    private static final String LOAD_MARKER_PREFIX = "L:";
+    private static final String HISTORY_PREFIX = "H:";
+    private static final String BACKLOG_PREFIX = "B:";
+    private static final String ROUTINE_PREFIX = "R:";
+    private static final List<String> DAYS = List.of("월", "화", "수", "목", "금", "토", "일");
+
+    private static final DefaultRedisScript<Long> INCREMENT_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 1 then " +
+                    "  return redis.call('hincrby', KEYS[1], ARGV[2], ARGV[3]) " +
+                    "end " +
+                    "redis.call('hdel', KEYS[1], ARGV[4]) " +
+                    "return 0",
+            Long.class
+    );
+
+    private static final DefaultRedisScript<Long> SAVE_IF_LOAD_TOKEN_MATCHES_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], ARGV[1]) ~= ARGV[2] then " +
+                    "  return 0 " +
+                    "end " +
+                    "redis.call('hdel', KEYS[1], ARGV[1]) " +
+                    "for i = 4, #ARGV, 2 do " +
+                    "  redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "end " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile String epoch;
+    private volatile long epochLoadedAt;
+
+    public CalendarSummaryRepositoryImpl(StringRedisTemplate stringRedisTemplate,
+                                         RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EPOCH_CHANNEL));
+    }
+
+    @Override
+    public CalendarSummary find(Long userId, List<YearMonth> months) {
+        List<String> fields = new ArrayList<>();
+        months.forEach(month -> fields.add(MONTH_MARKER_PREFIX + month));
+        fields.add(ROUTINE_MARKER);
+        DAYS.forEach(day -> fields.add(ROUTINE_PREFIX + day));
+        List<LocalDate> dates = new ArrayList<>();
+        for (YearMonth month : months) {
+            for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+                dates.add(date);
+                fields.add(HISTORY_PREFIX + date);
+                fields.add(BACKLOG_PREFIX + date);
+            }
+        }
+
+        List<Object> values = stringRedisTemplate.opsForHash().multiGet(key(userId), new ArrayList<>(fields));
+
+        int index = 0;
+        Set<YearMonth> missingMonths = new HashSet<>();
+        for (YearMonth month : months) {
+            if (values.get(index++) == null) {
+                missingMonths.add(month);
+            }
+        }
+        boolean routineLoaded = values.get(index++) != null;
+        Map<String, Integer> routineCounts = new HashMap<>();
+        for (String day : DAYS) {
+            putIfPositive(routineCounts, day, values.get(index++));
+        }
+        Map<LocalDate, Integer> historyCounts = new HashMap<>();
+        Map<LocalDate, Integer> backlogCounts = new HashMap<>();
+        for (LocalDate date : dates) {
+            putIfPositive(historyCounts, date, values.get(index++));
+            putIfPositive(backlogCounts, date, values.get(index++));
+        }
+
+        return new CalendarSummary(missingMonths, routineLoaded, historyCounts, backlogCounts, routineCounts);
+    }
+
+    @Override
+    public String beginLoad(Long userId, Collection<YearMonth> months, boolean routine) {
+        String loadToken = UUID.randomUUID().toString();
+        Map<String, String> fields = new HashMap<>();
+        months.forEach(month -> fields.put(LOAD_MARKER_PREFIX + month, loadToken));
+        if (routine) {
+            fields.put(LOAD_MARKER_PREFIX + ROUTINE_MARKER, loadToken);
+        }
+        if (!fields.isEmpty()) {
+            String key = key(userId);
+            stringRedisTemplate.opsForHash().putAll(key, fields);
+            stringRedisTemplate.expire(key, TTL);
+        }
+        return loadToken;
+    }
+
+    @Override
+    public boolean saveMonth(Long userId, YearMonth month, String loadToken,
+                             Map<LocalDate, Integer> historyCounts, Map<LocalDate, Integer> backlogCounts) {
+        Map<String, String> fields = new HashMap<>();
+        historyCounts.forEach((date, count) -> fields.put(HISTORY_PREFIX + date, String.valueOf(count)));
+        backlogCounts.forEach((date, count) -> fields.put(BACKLOG_PREFIX + date, String.valueOf(count)));
+        fields.put(MONTH_MARKER_PREFIX + month, "1");
+        return saveIfLoadTokenMatches(userId, LOAD_MARKER_PREFIX + month, loadToken, fields);
+    }
+
+    @Override
+    public boolean saveRoutineCounts(Long userId, String loadToken, Map<String, Integer> routineCounts) {
+        Map<String, String> fields = new HashMap<>();
+        DAYS.forEach(day -> fields.put(ROUTINE_PREFIX + day, String.valueOf(routineCounts.getOrDefault(day, 0))));
+        fields.put(ROUTINE_MARKER, "1");
+        return saveIfLoadTokenMatches(userId, LOAD_MARKER_PREFIX + ROUTINE_MARKER, loadToken, fields);
+    }
+
+    @Override
+    public void incrementHistoryCount(Long userId, LocalDate date, int delta) {
+        YearMonth month = YearMonth.from(date);
+        incrementIfLoaded(userId, MONTH_MARKER_PREFIX + month, HISTORY_PREFIX + date, delta, LOAD_MARKER_PREFIX + month);
+    }
+
+    @Override
+    public void incrementBacklogCount(Long userId, LocalDate date, int delta) {
+        YearMonth month = YearMonth.from(date);
+        incrementIfLoaded(userId, MONTH_MARKER_PREFIX + month, BACKLOG_PREFIX + date, delta, LOAD_MARKER_PREFIX + month);
+    }
+
+    @Override
+    public void incrementRoutineCount(Long userId, String day, int delta) {
+        incrementIfLoaded(userId, ROUTINE_MARKER, ROUTINE_PREFIX + day, delta, LOAD_MARKER_PREFIX + ROUTINE_MARKER);
+    }
+
+    @Override
+    public void evict(Long userId) {
+        stringRedisTemplate.delete(key(userId));
+    }
+
+    @Override
+    public void evictAll() {
+        Long nextEpoch = stringRedisTemplate.opsForValue().increment(EPOCH_KEY);
+        updateEpoch(String.valueOf(nextEpoch));
+        try {
+            stringRedisTemplate.convertAndSend(EPOCH_CHANNEL, String.valueOf(nextEpoch));
+        } catch (Exception e) {
+            log.warn("[Calendar] epoch={} 전파 실패 - 다른 인스턴스는 {} 이내에 반영합니다.", nextEpoch, EPOCH_REFRESH_INTERVAL, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        updateEpoch(new String(message.getBody()));
+    }
+
+    /**
+     * 적재 토큰이 그대로 남아 있을 때만 집계 결과를 저장합니다.
+     * 집계 중 증감이 들어와 토큰이 지워졌거나 다른 적재가 토큰을 바꿨다면 저장하지 않습니다.
+     */
+    private boolean saveIfLoadTokenMatches(Long userId, String loadMarker, String loadToken, Map<String, String> fields) {
+        List<String> args = new ArrayList<>();
+        args.add(loadMarker);
+        args.add(loadToken);
+        args.add(String.valueOf(TTL.toMillis()));
+        fields.forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+        Long saved = stringRedisTemplate.execute(
+                SAVE_IF_LOAD_TOKEN_MATCHES_SCRIPT,
+                List.of(key(userId)),
+                args.toArray()
+        );
+        return saved != null && saved == 1L;
+    }
+
+    private void incrementIfLoaded(Long userId, String marker, String field, int delta, String loadMarker) {
+        stringRedisTemplate.execute(
+                INCREMENT_IF_LOADED_SCRIPT,
+                List.of(key(userId)),
+                marker, field, String.valueOf(delta), loadMarker
+        );
+    }
+
+    private <K> void putIfPositive(Map<K, Integer> counts, K key, Object value) {
+        if (value != null) {
+            int count = Integer.parseInt((String) value);
+            if (count > 0) {
+                counts.put(key, count);
+            }
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + epoch() + ":" + userId;
+    }
+
+    /**
+     * 보관 중인 epoch 를 반환합니다.
+     * 채널 메시지를 놓친 경우를 대비해 {@link #EPOCH_REFRESH_INTERVAL}이 지나면 Redis에서 다시 읽습니다.
+     */
+    private String epoch() {
+        String current = epoch;
+        if (current != null && System.currentTimeMillis() - epochLoadedAt < EPOCH_REFRESH_INTERVAL.toMillis()) {
+            return current;
+        }
+        String loaded = stringRedisTemplate.opsForValue().get(EPOCH_KEY);
+        updateEpoch(loaded != null ? loaded : "0");
+        return epoch;
+    }
+
+    private void updateEpoch(String value) {
+        epoch = value;
+        epochLoadedAt = System.currentTimeMillis();
+    }
+}
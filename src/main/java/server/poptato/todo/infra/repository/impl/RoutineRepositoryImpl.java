@@ -1,7 +1,13 @@
 package server.poptato.todo.infra.repository.impl;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
@@ -14,16 +20,33 @@ import server.poptato.todo.infra.repository.JpaRoutineRepository;
 @RequiredArgsConstructor
 public class RoutineRepositoryImpl implements RoutineRepository {
 
+    private static final String INSERT_ROUTINE_SQL =
+            "INSERT INTO routine (todo_id, day, create_date, modify_date) VALUES (?, ?, ?, ?)";
+
     private final JpaRoutineRepository jpaRoutineRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public void deleteByTodoId(Long todoId) {
         jpaRoutineRepository.deleteByTodoId(todoId);
     }
 
+    /**
+     * 루틴 요일들을 JDBC 배치 INSERT로 저장합니다.
+     * IDENTITY 전략에서는 Hibernate가 INSERT를 한 건씩 실행하므로, 영속성 컨텍스트를 거치지 않고 한 번에 전송합니다.
+     */
     @Override
     public void saveAll(List<Routine> routineDays) {
-        jpaRoutineRepository.saveAll(routineDays);
+        if (routineDays == null || routineDays.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_ROUTINE_SQL, routineDays, routineDays.size(), (ps, routine) -> {
+            ps.setLong(1, routine.getTodoId());
+            ps.setString(2, routine.getDay());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
     }
 
     @Override
@@ -31,6 +54,18 @@ public class RoutineRepositoryImpl implements RoutineRepository {
         return jpaRoutineRepository.findAllByTodoId(todoId);
     }
 
+    @Override
+    public Map<Long, List<String>> findAllByTodoIdIn(List<Long> todoIds) {
+        if (todoIds == null || todoIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return jpaRoutineRepository.findAllByTodoIdIn(todoIds).stream()
+                .collect(Collectors.groupingBy(
+                        Routine::getTodoId,
+                        Collectors.mapping(Routine::getDay, Collectors.toList())
+                ));
+    }
+
 	@Override
 	public List<RoutineCountProjection> countRoutinesByDay(Long userId) {
 		return jpaRoutineRepository.countRoutinesByDay(userId);
@@ -0,0 +1,38 @@
+package server.poptato.todo.infra.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import server.poptato.todo.domain.repository.TodoRebalanceRequestRepository;
+
+import java.util.List;
+
+/**
+ * 할 일 순서 재정렬이 요청된 사용자 ID를 Redis Set(todo:rebalance-requests)에 보관합니다.
+ * 서버가 재시작되거나 여러 인스턴스에서 요청되어도 배치에서 한 번씩 처리되며,
+ * SPOP 으로 꺼내므로 여러 인스턴스가 동시에 꺼내도 같은 사용자를 중복 처리하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TodoRebalanceRequestRepositoryImpl implements TodoRebalanceRequestRepository {
+
+    private static final String KEY = "todo:rebalance-requests";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void save(Long userId) {
+        stringRedisTemplate.opsForSet().add(KEY, String.valueOf(userId));
+    }
+
+    @Override
+    public List<Long> pop(int count) {
+        List<String> userIds = stringRedisTemplate.opsForSet().pop(KEY, count);
+        if (userIds == null) {
+            return List.of();
+        }
+        return userIds.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+}
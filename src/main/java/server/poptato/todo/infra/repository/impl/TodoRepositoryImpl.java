@@ -1,19 +1,32 @@
 package server.poptato.todo.infra.repository.impl;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.HistoryProjection;
+import server.poptato.todo.domain.projection.TodoDetailProjection;
 import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.BacklogCursor;
+import server.poptato.todo.domain.value.HistoryCursor;
+import server.poptato.todo.domain.value.OrderRank;
+import server.poptato.todo.domain.value.PlanHistoryCursor;
+import server.poptato.todo.domain.value.TodayHistoryCursor;
 import server.poptato.todo.domain.value.TodayStatus;
 import server.poptato.todo.domain.value.Type;
 import server.poptato.todo.infra.repository.JpaTodoRepository;
@@ -22,31 +35,45 @@ import server.poptato.todo.infra.repository.JpaTodoRepository;
 @RequiredArgsConstructor
 public class TodoRepositoryImpl implements TodoRepository {
 
+    private static final Pageable FIRST_ONLY = PageRequest.of(0, 1);
+    private static final List<String> DEPENDENT_DELETE_QUERIES = List.of(
+            "DELETE FROM Routine r WHERE r.todoId IN :todoIds",
+            "DELETE FROM TimeAlarm ta WHERE ta.todoId IN :todoIds",
+            "DELETE FROM CompletedDateTime c WHERE c.todoId IN :todoIds"
+    );
+
     private final JpaTodoRepository jpaTodoRepository;
+    private final EntityManager entityManager;
 
     @Override
-    public List<Todo> findIncompleteTodays(Long userId, Type type, LocalDate todayDate, TodayStatus todayStatus) {
-        return jpaTodoRepository.findIncompleteTodays(userId, type, todayDate, todayStatus);
+    public Page<Todo> findTodays(Long userId, LocalDate todayDate, Pageable pageable) {
+        return jpaTodoRepository.findTodays(userId, todayDate, startOf(todayDate), startOf(todayDate.plusDays(1)), pageable);
     }
 
     @Override
-    public List<Todo> findCompletedTodays(Long userId, LocalDate todayDate) {
-        return jpaTodoRepository.findCompletedTodays(userId, todayDate);
+    public Page<Todo> findTodaysWithCategory(Long userId, LocalDate todayDate, Pageable pageable) {
+        return jpaTodoRepository.findTodaysWithCategory(
+                userId, todayDate, startOf(todayDate), startOf(todayDate.plusDays(1)), pageable);
     }
 
     @Override
-    public List<Todo> findIncompleteTodaysWithCategory(Long userId, Type type, LocalDate todayDate, TodayStatus todayStatus) {
-        return jpaTodoRepository.findIncompleteTodaysWithCategory(userId, type, todayDate, todayStatus);
+    public Optional<Todo> findById(Long todoId) {
+        return jpaTodoRepository.findById(todoId);
     }
 
     @Override
-    public List<Todo> findCompletedTodaysWithCategory(Long userId, LocalDate todayDate) {
-        return jpaTodoRepository.findCompletedTodaysWithCategory(userId, todayDate);
+    public List<Todo> findAllById(List<Long> todoIds) {
+        return jpaTodoRepository.findAllById(todoIds);
     }
 
     @Override
-    public Optional<Todo> findById(Long todoId) {
-        return jpaTodoRepository.findById(todoId);
+    public void updateTodayOrders(Map<Long, Integer> todayOrdersByTodoId) {
+        updateOrders("todayOrder", todayOrdersByTodoId);
+    }
+
+    @Override
+    public void updateBacklogOrders(Map<Long, Integer> backlogOrdersByTodoId) {
+        updateOrders("backlogOrder", backlogOrdersByTodoId);
     }
 
     @Override
@@ -75,18 +102,48 @@ public class TodoRepositoryImpl implements TodoRepository {
     }
 
     @Override
-    public Integer findMaxTodayOrderByUserIdOrZero(Long userId) {
-        return jpaTodoRepository.findMaxTodayOrderByUserIdOrZero(userId);
+    public Optional<Integer> findTopTodayOrder(Long userId) {
+        return findTodayOrderBelow(userId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<Integer> findBottomTodayOrder(Long userId) {
+        return findTodayOrderAbove(userId, Integer.MIN_VALUE);
+    }
+
+    @Override
+    public Optional<Integer> findTopBacklogOrder(Long userId) {
+        return findBacklogOrderBelow(userId, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Optional<Integer> findTodayOrderAbove(Long userId, int order) {
+        return first(jpaTodoRepository.findTodayOrdersAbove(userId, order, FIRST_ONLY));
     }
 
     @Override
-    public Integer findMinTodayOrderByUserIdOrZero(Long userId) {
-        return jpaTodoRepository.findMinTodayOrderByUserIdOrZero(userId);
+    public Optional<Integer> findTodayOrderBelow(Long userId, int order) {
+        return first(jpaTodoRepository.findTodayOrdersBelow(userId, order, FIRST_ONLY));
     }
 
     @Override
-    public Integer findMaxBacklogOrderByUserIdOrZero(Long userId) {
-        return jpaTodoRepository.findMaxBacklogOrderByUserIdOrZero(userId);
+    public Optional<Integer> findBacklogOrderAbove(Long userId, int order) {
+        return first(jpaTodoRepository.findBacklogOrdersAbove(userId, order, FIRST_ONLY));
+    }
+
+    @Override
+    public Optional<Integer> findBacklogOrderBelow(Long userId, int order) {
+        return first(jpaTodoRepository.findBacklogOrdersBelow(userId, order, FIRST_ONLY));
+    }
+
+    @Override
+    public List<Todo> findAllTodayOrdered(Long userId) {
+        return jpaTodoRepository.findAllTodayOrdered(userId);
+    }
+
+    @Override
+    public List<Todo> findAllBacklogOrdered(Long userId) {
+        return jpaTodoRepository.findAllBacklogOrdered(userId);
     }
 
     @Override
@@ -111,22 +168,108 @@ public class TodoRepositoryImpl implements TodoRepository {
 
     @Override
     public Page<Todo> findHistories(Long userId, LocalDate localDate, Pageable pageable) {
-        return jpaTodoRepository.findHistories(userId, localDate, pageable);
+        return jpaTodoRepository.findHistories(userId, startOf(localDate), startOf(localDate.plusDays(1)), pageable);
     }
 
     @Override
-    public List<Todo> findByType(Type type) {
-        return jpaTodoRepository.findByType(type);
+    public Slice<Todo> findAllBacklogsByCursor(Long userId, Type type, TodayStatus status, BacklogCursor cursor, int size) {
+        return jpaTodoRepository.findAllBacklogsByCursor(
+                userId, type, status, cursor.backlogOrder(), cursor.todoId(), PageRequest.of(0, size));
     }
 
     @Override
-    public void deleteAllByCategoryId(Long categoryId) {
-        jpaTodoRepository.deleteAllByCategoryId(categoryId);
+    public Slice<Todo> findBookmarkBacklogsByCursor(Long userId, Type type, TodayStatus status, BacklogCursor cursor, int size) {
+        return jpaTodoRepository.findBookmarkBacklogsByCursor(
+                userId, type, status, cursor.backlogOrder(), cursor.todoId(), PageRequest.of(0, size));
     }
 
     @Override
-    public List<Todo> findIncompleteTodayTodos(Long userId, TodayStatus todayStatus) {
-        return jpaTodoRepository.findIncompleteTodayTodos(userId, todayStatus);
+    public Slice<Todo> findBacklogsByCategoryIdByCursor(Long userId, Long categoryId, Type type, TodayStatus status, BacklogCursor cursor, int size) {
+        return jpaTodoRepository.findBacklogsByCategoryIdByCursor(
+                userId, categoryId, type, status, cursor.backlogOrder(), cursor.todoId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public Slice<HistoryProjection> findHistoriesByCursor(Long userId, LocalDate localDate, HistoryCursor cursor, int size) {
+        return jpaTodoRepository.findHistoriesByCursor(
+                userId, startOf(localDate), startOf(localDate.plusDays(1)),
+                cursor.completedDateTime(), cursor.todoId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public Slice<Todo> findTodaysByCursor(Long userId, LocalDate todayDate, TodayHistoryCursor cursor, int size) {
+        return jpaTodoRepository.findTodaysByCursor(
+                userId, todayDate, startOf(todayDate), startOf(todayDate.plusDays(1)),
+                cursor.todayStatus(), cursor.todayOrder(), cursor.todoId(), PageRequest.of(0, size));
+    }
+
+    @Override
+    public int rolloverTodayTodos(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
+        }
+        return jpaTodoRepository.rolloverTodayTodos(userIds, OrderRank.GAP);
+    }
+
+    @Override
+    public List<Long> findUserIdsWithoutRolloverRoom(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaTodoRepository.findUserIdsWithoutRolloverRoom(userIds, OrderRank.GAP, OrderRank.MAX_UNCROWDED_ORDER);
+    }
+
+    @Override
+    public int promoteDueTodos(List<Long> userIds, LocalDate today, String todayDay) {
+        if (userIds == null || userIds.isEmpty()) {
+            return 0;
+        }
+        return jpaTodoRepository.promoteDueTodos(userIds, today, todayDay, OrderRank.GAP);
+    }
+
+    @Override
+    public List<Long> findUserIdsWithoutPromotionRoom(List<Long> userIds, LocalDate today, String todayDay) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaTodoRepository.findUserIdsWithoutPromotionRoom(
+                userIds, today, todayDay, OrderRank.GAP, OrderRank.MAX_UNCROWDED_ORDER);
+    }
+
+    @Override
+    public int insertEventTodayTodos(Long fromUserId, Long toUserId, String content, LocalTime time,
+                                     boolean isBookmark, LocalDate today) {
+        return jpaTodoRepository.insertEventTodayTodos(fromUserId, toUserId, content, time, isBookmark, today, OrderRank.GAP);
+    }
+
+    @Override
+    public List<Long> findIdsByUserIdAfter(Long userId, Long lastTodoId, Pageable pageable) {
+        return jpaTodoRepository.findIdsByUserIdAfter(userId, lastTodoId, pageable);
+    }
+
+    @Override
+    public List<Long> findIdsByCategoryIdAfter(Long categoryId, Long lastTodoId, Pageable pageable) {
+        return jpaTodoRepository.findIdsByCategoryIdAfter(categoryId, lastTodoId, pageable);
+    }
+
+    /**
+     * 할 일과 할 일에 딸린 루틴, 시간 알림, 달성 시각을 하나의 트랜잭션에서 일괄 삭제합니다.
+     * 엔티티를 조회하지 않고 테이블별 DELETE 문으로 처리합니다.
+     */
+    @Override
+    @Transactional
+    public int deleteAllWithDependents(List<Long> todoIds) {
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+        for (String jpql : DEPENDENT_DELETE_QUERIES) {
+            entityManager.createQuery(jpql)
+                    .setParameter("todoIds", todoIds)
+                    .executeUpdate();
+        }
+        return entityManager.createQuery("DELETE FROM Todo t WHERE t.id IN :todoIds")
+                .setParameter("todoIds", todoIds)
+                .executeUpdate();
     }
 
     @Override
@@ -139,27 +282,64 @@ public class TodoRepositoryImpl implements TodoRepository {
         return jpaTodoRepository.findRoutineTodosByDay(userId, todayDay);
     }
 
+    @Override
+    public Page<Todo> findFuturePlanTodos(Long userId, LocalDate targetDate, String dayName, Pageable pageable) {
+        return jpaTodoRepository.findFuturePlanTodos(userId, targetDate, dayName, pageable);
+    }
+
+    @Override
+    public Slice<Todo> findFuturePlanTodosByCursor(Long userId, LocalDate targetDate, String dayName, PlanHistoryCursor cursor, int size) {
+        return jpaTodoRepository.findFuturePlanTodosByCursor(
+                userId, targetDate, dayName, cursor.todoId(), PageRequest.of(0, size));
+    }
+
     @Override
     public List<Todo> findIncompleteYesterdays(Long userId) {
         return jpaTodoRepository.findIncompleteYesterdays(userId);
     }
 
     @Override
-    public List<Tuple> findDatesWithBacklogCount(Long userId, String year, int month) {
-        return jpaTodoRepository.findDatesWithBacklogCount(userId, year, month);
+    public List<TodoDetailProjection> findTodoDetails(Long userId, List<Long> todoIds) {
+        return jpaTodoRepository.findTodoDetails(userId, todoIds);
     }
 
     @Override
-    public boolean existsByUserIdAndTypeAndTodayStatus(Long userId, Type type, TodayStatus todayStatus) {
-        return jpaTodoRepository.existsByUserIdAndTypeAndTodayStatus(userId, type, todayStatus);
+    public List<Tuple> findDatesWithBacklogCount(Long userId, LocalDate startDate, LocalDate endDate) {
+        return jpaTodoRepository.findDatesWithBacklogCount(userId, startDate, endDate);
     }
 
-    @Override
-    public Map<Long, Integer> findMaxTodayOrdersByUserIdsOrZero(List<Long> userIds) {
-        return jpaTodoRepository.findMaxTodayOrdersByUserIds(userIds).stream()
-                .collect(Collectors.toMap(
-                        tuple -> ((Number) tuple.get("userId")).longValue(),
-                        tuple -> ((Number) tuple.get("maxOrder")).intValue()
-                ));
+    /**
+     * 완료 시간 조회를 날짜 함수 대신 [당일 0시, 다음날 0시) 범위 조건으로 처리하기 위한 시작 시각을 반환합니다.
+     */
+    private LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay();
+    }
+
+    /**
+     * 여러 할 일의 순서 값을 하나의 UPDATE 문(CASE id WHEN ... THEN ...)으로 변경합니다.
+     * 영속성 컨텍스트를 거치지 않으므로, 호출 이후 같은 트랜잭션에서 해당 엔티티의 순서 값을 다시 읽지 않아야 합니다.
+     */
+    private void updateOrders(String orderField, Map<Long, Integer> ordersByTodoId) {
+        if (ordersByTodoId == null || ordersByTodoId.isEmpty()) {
+            return;
+        }
+        StringBuilder jpql = new StringBuilder("UPDATE Todo t SET t.").append(orderField).append(" = CASE t.id");
+        List<Map.Entry<Long, Integer>> entries = List.copyOf(ordersByTodoId.entrySet());
+        for (int index = 0; index < entries.size(); index++) {
+            jpql.append(" WHEN :id").append(index).append(" THEN :order").append(index);
+        }
+        jpql.append(" ELSE t.").append(orderField).append(" END WHERE t.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        for (int index = 0; index < entries.size(); index++) {
+            query.setParameter("id" + index, entries.get(index).getKey());
+            query.setParameter("order" + index, entries.get(index).getValue());
+        }
+        query.setParameter("ids", ordersByTodoId.keySet());
+        query.executeUpdate();
+    }
+
+    private Optional<Integer> first(List<Integer> orders) {
+        return orders.stream().findFirst();
     }
 }
@@ -16,7 +16,9 @@ public enum TodoErrorStatus implements BaseErrorCode {
     _TODO_TYPE_NOT_MATCH(HttpStatus.BAD_REQUEST, "TODO-005", "드래그앤드롭 시 할 일 리스트와 할 일 타입이 맞지 않습니다." ),
     _BACKLOG_CANT_COMPLETE(HttpStatus.BAD_REQUEST, "TODO-006","백로그 할 일은 달성할 수 없습니다."),
     _YESTERDAY_CANT_COMPLETE(HttpStatus.BAD_REQUEST, "TODO-007","이미 달성한 어제 한 일은 취소할 수 없습니다."),
-    _COMPLETED_DATETIME_NOT_EXIST(HttpStatus.BAD_REQUEST, "TODO-008", "존재하지 않는 달성 시각입니다.")
+    _COMPLETED_DATETIME_NOT_EXIST(HttpStatus.BAD_REQUEST, "TODO-008", "존재하지 않는 달성 시각입니다."),
+    _INVALID_CALENDAR_RANGE(HttpStatus.BAD_REQUEST, "TODO-009", "유효하지 않은 캘린더 조회 기간입니다."),
+    _INVALID_TODO_IDS(HttpStatus.BAD_REQUEST, "TODO-010", "유효하지 않은 할 일 ID 목록입니다.")
     ;
 
     private final HttpStatus httpStatus;
@@ -3,7 +3,7 @@ package server.poptato.user.api;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import server.poptato.auth.application.service.JwtService;
+import server.poptato.global.annotation.AuthUser;
 import server.poptato.global.response.ApiResponse;
 import server.poptato.global.response.status.SuccessStatus;
 import server.poptato.user.api.request.UserCommentRequestDTO;
@@ -17,23 +17,22 @@ import server.poptato.user.application.service.UserService;
 public class UserController {
 
     private final UserService userService;
-    private final JwtService jwtService;
 
     /**
      * 사용자 탈퇴 API.
      *
      * 사용자가 요청한 계정 탈퇴를 처리합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param userDeleteRequestDTO 탈퇴 요청 정보 (탈퇴 사유 등)
      * @return 성공 여부를 나타내는 응답
      */
     @PostMapping("/delete")
     public ResponseEntity<ApiResponse<SuccessStatus>> deleteUser(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestBody UserDeleteRequestDTO userDeleteRequestDTO
     ) {
-        userService.deleteUser(jwtService.extractUserIdFromToken(authorizationHeader), userDeleteRequestDTO);
+        userService.deleteUser(userId, userDeleteRequestDTO);
         return ApiResponse.onSuccess(SuccessStatus._OK);
     }
 
@@ -42,14 +41,14 @@ public class UserController {
      *
      * 사용자의 마이페이지 정보를 반환합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @return 사용자 정보 DTO를 포함한 응답
      */
     @GetMapping("/mypage")
     public ResponseEntity<ApiResponse<UserInfoResponseDto>> getUserInfo(
-            @RequestHeader("Authorization") String authorizationHeader
+            @AuthUser Long userId
     ) {
-        UserInfoResponseDto response = userService.getUserInfo(jwtService.extractUserIdFromToken(authorizationHeader));
+        UserInfoResponseDto response = userService.getUserInfo(userId);
         return ApiResponse.onSuccess(SuccessStatus._OK, response);
     }
 
@@ -58,16 +57,16 @@ public class UserController {
      *
      * 사용자가 일단에게 의견을 보내며, DB에 저장 및 해당 내용을 디스코드 & 노션에 전송합니다.
      *
-     * @param authorizationHeader 요청 헤더의 Authorization (Bearer 토큰)
+     * @param userId 인증된 사용자 ID
      * @param requestDTO 의견 정보
      * @return 성공 여부를 나타내는 응답
      */
     @PostMapping("/comments")
     public ResponseEntity<ApiResponse<SuccessStatus>> createAndSendUserComment(
-            @RequestHeader("Authorization") String authorizationHeader,
+            @AuthUser Long userId,
             @RequestBody UserCommentRequestDTO requestDTO
     ) {
-        userService.createAndSendUserComment(jwtService.extractUserIdFromToken(authorizationHeader), requestDTO);
+        userService.createAndSendUserComment(userId, requestDTO);
         return ApiResponse.onSuccess(SuccessStatus._CREATED);
     }
 }
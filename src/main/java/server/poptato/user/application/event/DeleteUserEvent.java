@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 public record DeleteUserEvent(
+        Long userId,
         String userName,
         String mobileType,
         String socialType,
@@ -25,6 +26,7 @@ public record DeleteUserEvent(
         }
 
         return new DeleteUserEvent(
+                user.getId(),
                 user.getName(),
                 mobile.getType().toString(),
                 user.getSocialType().toString(),
@@ -10,6 +10,8 @@ import server.poptato.infra.notion.sender.NotionSender;
 import server.poptato.user.application.event.CreateUserCommentEvent;
 import server.poptato.user.application.event.CreateUserEvent;
 import server.poptato.user.application.event.DeleteUserEvent;
+import server.poptato.user.application.service.UserPurgeService;
+import server.poptato.user.infra.cache.UserExistenceCache;
 
 @Component
 @RequiredArgsConstructor
@@ -17,6 +19,8 @@ public class UserEventListener {
 
     private final DiscordSender discordSender;
     private final NotionSender notionSender;
+    private final UserExistenceCache userExistenceCache;
+    private final UserPurgeService userPurgeService;
 
     @Async
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -36,4 +40,22 @@ public class UserEventListener {
     public void handleDeleteUser(DeleteUserEvent event) {
         discordSender.sendDeleteUserMessage(event);
     }
+
+    /**
+     * 탈퇴가 커밋된 뒤 사용자 존재 캐시를 모든 인스턴스에서 무효화합니다.
+     * 커밋 전에 지우면 다른 요청이 탈퇴 전 상태를 다시 캐싱할 수 있으므로 커밋 이후에 처리합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evictUserExistence(DeleteUserEvent event) {
+        userExistenceCache.evict(event.userId());
+    }
+
+    /**
+     * 탈퇴가 커밋된 뒤 사용자가 소유한 데이터의 삭제를 요청합니다.
+     * 대기 목록 등록만 요청 스레드에서 처리하고, 실제 삭제는 배치 스레드 풀에서 진행됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void purgeUserData(DeleteUserEvent event) {
+        userPurgeService.requestPurge(event.userId());
+    }
 }
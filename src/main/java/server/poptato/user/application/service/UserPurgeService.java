@@ -0,0 +1,152 @@
+package server.poptato.user.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import server.poptato.category.domain.repository.CategoryRepository;
+import server.poptato.global.util.BatchUtil;
+import server.poptato.infra.lock.LettuceLockRepository;
+import server.poptato.todo.domain.repository.TimeAlarmRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.user.domain.repository.MobileRepository;
+import server.poptato.user.domain.repository.UserPurgeProgressRepository;
+import server.poptato.user.domain.repository.UserRepository;
+
+/**
+ * 탈퇴한 사용자가 소유한 데이터를 백그라운드에서 삭제(purge)하는 서비스.
+ * - 할 일은 batch.size 단위 묶음으로, 루틴/시간 알림/달성 시각과 함께 묶음마다 별도의 트랜잭션으로 삭제합니다.
+ * - 묶음이 끝날 때마다 진행 위치를 저장하므로, 중단된 작업은 주기적인 재개 작업에서 이어서 처리됩니다.
+ * - 같은 사용자의 작업이 동시에 실행되지 않도록 사용자별 락을 사용하며, 묶음이 끝날 때마다 락 만료 시간을 연장합니다.
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+
+    private static final String LOCK_KEY_PREFIX = "user-purge:";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(10);
+
+    private static final String PURGE_METRIC = "user.purge";
+    private static final String PURGED_TODOS_METRIC = "user.purge.todos";
+    private static final String PURGE_DURATION_METRIC = "user.purge.duration";
+
+    private final UserRepository userRepository;
+    private final TodoRepository todoRepository;
+    private final TimeAlarmRepository timeAlarmRepository;
+    private final CategoryRepository categoryRepository;
+    private final MobileRepository mobileRepository;
+    private final UserPurgeProgressRepository userPurgeProgressRepository;
+    private final LettuceLockRepository lettuceLockRepository;
+    private final Executor purgeExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+
+    public UserPurgeService(UserRepository userRepository,
+                            TodoRepository todoRepository,
+                            TimeAlarmRepository timeAlarmRepository,
+                            CategoryRepository categoryRepository,
+                            MobileRepository mobileRepository,
+                            UserPurgeProgressRepository userPurgeProgressRepository,
+                            LettuceLockRepository lettuceLockRepository,
+                            @Qualifier("purgeExecutor") Executor purgeExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${batch.size}") int batchSize) {
+        this.userRepository = userRepository;
+        this.todoRepository = todoRepository;
+        this.timeAlarmRepository = timeAlarmRepository;
+        this.categoryRepository = categoryRepository;
+        this.mobileRepository = mobileRepository;
+        this.userPurgeProgressRepository = userPurgeProgressRepository;
+        this.lettuceLockRepository = lettuceLockRepository;
+        this.purgeExecutor = purgeExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 사용자를 purge 대기 목록에 등록하고 purge 스레드 풀에서 삭제를 시작합니다.
+     *
+     * @param userId 탈퇴한 사용자 ID
+     */
+    public void requestPurge(Long userId) {
+        try {
+            userPurgeProgressRepository.register(userId);
+        } catch (RuntimeException e) {
+            log.warn("[UserPurge] userId={} 대기 목록 등록 실패 - 재개 대상에서 제외됩니다.", userId, e);
+        }
+        purgeExecutor.execute(() -> purge(userId));
+    }
+
+    /**
+     * 대기 목록에 남아 있는(중단되었거나 실패한) purge 작업을 purge 스레드 풀에서 이어서 처리합니다.
+     * 스케줄러 스레드는 작업을 넘기기만 하므로 다른 스케줄 작업을 막지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${scheduling.userPurgeResumeDelay:600000}")
+    public void resumePendingPurges() {
+        userPurgeProgressRepository.findPendingUserIds()
+                .forEach(userId -> purgeExecutor.execute(() -> purge(userId)));
+    }
+
+    /**
+     * 사용자가 소유한 할 일(루틴, 시간 알림, 달성 시각 포함), 카테고리, 모바일 정보를 삭제합니다.
+     * 다른 스레드나 인스턴스에서 같은 사용자를 처리 중이면 건너뜁니다.
+     *
+     * @param userId 탈퇴한 사용자 ID
+     */
+    public void purge(Long userId) {
+        String lockKey = LOCK_KEY_PREFIX + userId;
+        String token = lettuceLockRepository.lock(lockKey, LOCK_TIMEOUT);
+        if (token == null) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (userRepository.existsById(userId)) {
+                // 탈퇴가 반영되지 않은 사용자의 데이터는 삭제하지 않음
+                log.warn("[UserPurge] userId={} 사용자가 존재하여 purge 를 취소합니다.", userId);
+                userPurgeProgressRepository.complete(userId);
+                return;
+            }
+
+            long purgedTodoCount = BatchUtil.forEachIdChunk(batchSize, userPurgeProgressRepository.findLastTodoId(userId),
+                    (lastTodoId, pageable) -> todoRepository.findIdsByUserIdAfter(userId, lastTodoId, pageable),
+                    todoIds -> {
+                        todoRepository.deleteAllWithDependents(todoIds);
+                        userPurgeProgressRepository.saveLastTodoId(userId, todoIds.get(todoIds.size() - 1));
+                        meterRegistry.counter(PURGED_TODOS_METRIC).increment(todoIds.size());
+                        extendLock(lockKey, token);
+                    });
+            timeAlarmRepository.deleteAllByUserId(userId);
+            categoryRepository.deleteAllByUserId(userId);
+            mobileRepository.deleteAllByUserId(userId);
+
+            userPurgeProgressRepository.complete(userId);
+            meterRegistry.counter(PURGE_METRIC, "result", "success").increment();
+            log.info("[UserPurge] userId={} purge 완료, 삭제한 할 일 수={}", userId, purgedTodoCount);
+        } catch (RuntimeException e) {
+            meterRegistry.counter(PURGE_METRIC, "result", "failure").increment();
+            log.error("[UserPurge] userId={} purge 실패 - 다음 재개 작업에서 이어서 처리합니다.", userId, e);
+        } finally {
+            sample.stop(meterRegistry.timer(PURGE_DURATION_METRIC));
+            lettuceLockRepository.unlock(lockKey, token);
+        }
+    }
+
+    /**
+     * purge 가 진행되는 동안 락이 만료되지 않도록 만료 시간을 연장합니다.
+     * 락을 잃었다면 다른 작업이 같은 사용자를 처리할 수 있으므로 중단하고, 저장된 진행 위치부터 다시 처리되도록 합니다.
+     */
+    private void extendLock(String lockKey, String token) {
+        if (!lettuceLockRepository.extend(lockKey, token, LOCK_TIMEOUT)) {
+            throw new IllegalStateException("purge 락을 잃어 작업을 중단합니다. key=" + lockKey);
+        }
+    }
+}
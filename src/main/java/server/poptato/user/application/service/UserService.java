@@ -5,7 +5,6 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import server.poptato.auth.application.service.JwtService;
-import server.poptato.category.domain.repository.CategoryRepository;
 import server.poptato.global.exception.CustomException;
 import server.poptato.user.api.request.UserCommentRequestDTO;
 import server.poptato.user.api.request.UserDeleteRequestDTO;
@@ -34,7 +33,6 @@ public class UserService {
     private final ApplicationEventPublisher eventPublisher;
     private final UserRepository userRepository;
     private final DeleteReasonRepository deleteReasonRepository;
-    private final CategoryRepository categoryRepository;
     private final CommentRepository commentRepository;
     private final MobileRepository mobileRepository;
 
@@ -42,7 +40,8 @@ public class UserService {
      * 사용자 탈퇴 처리 메서드.
      *
      * 주어진 사용자 ID를 기반으로 탈퇴 요청을 처리합니다.
-     * 탈퇴 이유를 저장하고, 관련 데이터(할 일, 모바일 정보)를 삭제한 뒤 사용자를 삭제합니다.
+     * 탈퇴 이유를 저장하고 사용자를 삭제합니다.
+     * 사용자가 소유한 데이터(할 일, 카테고리, 모바일 정보 등)는 커밋 이후 {@link UserPurgeService}가 백그라운드에서 삭제합니다.
      *
      * @param userId 사용자 ID
      * @param requestDTO 탈퇴 요청 데이터
@@ -57,7 +56,6 @@ public class UserService {
 
         saveDeleteReasons(userId, requestDTO.reasons(), requestDTO.userInputReason());
         userRepository.delete(user);
-        categoryRepository.deleteByUserId(userId);
         jwtService.deleteRefreshToken(String.valueOf(userId));
     }
 
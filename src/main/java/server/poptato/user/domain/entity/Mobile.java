@@ -12,7 +12,9 @@ import server.poptato.user.domain.value.MobileType;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "mobile")
+@Table(name = "mobile", indexes = {
+        @Index(name = "idx_mobile_user", columnList = "user_id")
+})
 public class Mobile extends BaseEntity {
 
     @Id
@@ -0,0 +1,6 @@
+package server.poptato.user.domain.projection;
+
+public interface PushTargetProjection {
+    String getClientId();
+    String getContent();
+}
@@ -1,6 +1,9 @@
 package server.poptato.user.domain.repository;
 
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.projection.PushTargetProjection;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,11 +15,23 @@ public interface MobileRepository {
 
     void deleteByClientId(String clientId);
 
+    int deleteAllByClientIdIn(List<String> clientIds);
+
     List<Mobile> findAllByUserId(Long userId);
 
+    List<String> findClientIdsByUserIdIn(List<Long> userIds);
+
+    List<String> findClientIdsOfUsersWithTodos(List<Long> userIds, Type type, TodayStatus todayStatus);
+
+    List<String> findClientIdsOfUsersWithoutTodos(List<Long> userIds, Type type, TodayStatus todayStatus);
+
+    List<PushTargetProjection> findTodoPushTargets(List<Long> userIds, Type type, TodayStatus todayStatus);
+
     Optional<Mobile> findByClientId(String clientId);
 
     void deleteOldTokens(LocalDateTime localDateTime);
 
+    int deleteAllByUserId(Long userId);
+
     Optional<Mobile> findTopByUserIdOrderByModifyDateDesc(Long userId);
 }
@@ -0,0 +1,20 @@
+package server.poptato.user.domain.repository;
+
+import java.util.Set;
+
+/**
+ * 탈퇴한 사용자 데이터 삭제(purge) 작업의 대기 목록과 진행 위치를 보관합니다.
+ * 작업 도중 서버가 종료되어도 남은 작업을 마지막으로 삭제한 위치부터 이어서 처리할 수 있습니다.
+ */
+public interface UserPurgeProgressRepository {
+
+    void register(Long userId);
+
+    Set<Long> findPendingUserIds();
+
+    Long findLastTodoId(Long userId);
+
+    void saveLastTodoId(Long userId, Long lastTodoId);
+
+    void complete(Long userId);
+}
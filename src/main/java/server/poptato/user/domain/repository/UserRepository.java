@@ -1,5 +1,6 @@
 package server.poptato.user.domain.repository;
 
+import org.springframework.data.domain.Pageable;
 import server.poptato.user.domain.entity.User;
 
 import java.util.List;
@@ -11,13 +12,21 @@ public interface UserRepository {
 
     Optional<User> findById(Long userId);
 
+    boolean existsById(Long userId);
+
     void delete(User user);
 
     User save(User user);
 
-    List<Long> findAllUserIds();
+    List<Long> findUserIdsAfter(Long lastUserId, Pageable pageable);
+
+    List<Long> findPushAlarmUserIdsAfter(Long lastUserId, Pageable pageable);
+
+    Long findMinUserId();
+
+    Long findMaxUserId();
 
-    List<User> findByIsPushAlarmTrue();
+    List<Long> findUserIdsBetween(Long fromId, Long toId);
 
     long count();
 }
@@ -0,0 +1,69 @@
+package server.poptato.user.infra.cache;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 존재가 확인된 사용자 ID를 인스턴스 로컬에 캐싱합니다.
+ * - 존재하는 사용자만 캐싱하며, 최대 개수와 TTL로 크기와 오래된 값의 유지 시간을 제한합니다.
+ * - 사용자 탈퇴 시 evict 로 로컬 값을 지우고 Redis 채널로 전파하여 다른 인스턴스의 값도 지웁니다.
+ */
+@Slf4j
+@Component
+public class UserExistenceCache implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "cache:user-existence:evict";
+    private static final long MAXIMUM_SIZE = 100_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final Cache<Long, Boolean> existingUserIds = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public UserExistenceCache(StringRedisTemplate stringRedisTemplate,
+                              RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public boolean contains(Long userId) {
+        return existingUserIds.getIfPresent(userId) != null;
+    }
+
+    public void put(Long userId) {
+        existingUserIds.put(userId, Boolean.TRUE);
+    }
+
+    /**
+     * 사용자를 로컬 캐시에서 지우고, 다른 인스턴스에도 무효화를 전파합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        existingUserIds.invalidate(userId);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("[UserExistenceCache] userId={} 무효화 전파 실패 - TTL 이후 만료됩니다.", userId, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        existingUserIds.invalidate(Long.valueOf(new String(message.getBody())));
+    }
+}
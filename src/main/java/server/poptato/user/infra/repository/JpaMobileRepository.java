@@ -5,10 +5,14 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
 import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.projection.PushTargetProjection;
 import server.poptato.user.domain.repository.MobileRepository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Transactional
 public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mobile, Long> {
@@ -16,10 +20,61 @@ public interface JpaMobileRepository extends MobileRepository, JpaRepository<Mob
     @Modifying
     void deleteByClientId(String clientId);
 
+    @Query("SELECT m.clientId FROM Mobile m WHERE m.userId IN :userIds")
+    List<String> findClientIdsByUserIdIn(@Param("userIds") List<Long> userIds);
+
+    @Query("""
+        SELECT m.clientId FROM Mobile m
+        WHERE m.userId IN :userIds
+          AND EXISTS (
+              SELECT 1 FROM Todo t
+              WHERE t.userId = m.userId
+                AND t.type = :type
+                AND t.todayStatus = :todayStatus
+          )
+    """)
+    List<String> findClientIdsOfUsersWithTodos(@Param("userIds") List<Long> userIds,
+                                               @Param("type") Type type,
+                                               @Param("todayStatus") TodayStatus todayStatus);
+
+    @Query("""
+        SELECT m.clientId FROM Mobile m
+        WHERE m.userId IN :userIds
+          AND NOT EXISTS (
+              SELECT 1 FROM Todo t
+              WHERE t.userId = m.userId
+                AND t.type = :type
+                AND t.todayStatus = :todayStatus
+          )
+    """)
+    List<String> findClientIdsOfUsersWithoutTodos(@Param("userIds") List<Long> userIds,
+                                                  @Param("type") Type type,
+                                                  @Param("todayStatus") TodayStatus todayStatus);
+
+    @Query("""
+        SELECT m.clientId AS clientId, t.content AS content
+        FROM Mobile m
+        JOIN Todo t ON t.userId = m.userId
+        WHERE m.userId IN :userIds
+          AND t.type = :type
+          AND t.todayStatus = :todayStatus
+    """)
+    List<PushTargetProjection> findTodoPushTargets(@Param("userIds") List<Long> userIds,
+                                                   @Param("type") Type type,
+                                                   @Param("todayStatus") TodayStatus todayStatus);
+
+    @Modifying
+    @Query("DELETE FROM Mobile m WHERE m.clientId IN :clientIds")
+    int deleteAllByClientIdIn(@Param("clientIds") List<String> clientIds);
+
     @Modifying
     @Query("""
         DELETE FROM Mobile m
         WHERE m.modifyDate < :localDateTime
     """)
     void deleteOldTokens(@Param("localDateTime") LocalDateTime localDateTime);
+
+    @Modifying
+    @Query("DELETE FROM Mobile m WHERE m.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
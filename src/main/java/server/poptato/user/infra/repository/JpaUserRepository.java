@@ -1,5 +1,6 @@
 package server.poptato.user.infra.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,18 @@ public interface JpaUserRepository extends UserRepository, JpaRepository<User, L
     @Query("SELECT u FROM User u WHERE u.socialId = :socialId")
     Optional<User> findBySocialId(@Param("socialId") String socialId);
 
-    @Query("SELECT u.id FROM User u")
-    List<Long> findAllUserIds();
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId ORDER BY u.id")
+    List<Long> findUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    @Query("SELECT u.id FROM User u WHERE u.id > :lastUserId AND u.isPushAlarm = true ORDER BY u.id")
+    List<Long> findPushAlarmUserIdsAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinUserId();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxUserId();
+
+    @Query("SELECT u.id FROM User u WHERE u.id BETWEEN :fromId AND :toId ORDER BY u.id")
+    List<Long> findUserIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,56 @@
+package server.poptato.user.infra.repository;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import server.poptato.user.domain.repository.UserPurgeProgressRepository;
+
+/**
+ * purge 대기 목록은 Redis 집합(user-purge:pending)에, 사용자별 마지막으로 삭제한 할 일 ID는 해시(user-purge:progress)에 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserPurgeProgressRepositoryImpl implements UserPurgeProgressRepository {
+
+    private static final String PENDING_KEY = "user-purge:pending";
+    private static final String PROGRESS_KEY = "user-purge:progress";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void register(Long userId) {
+        stringRedisTemplate.opsForSet().add(PENDING_KEY, String.valueOf(userId));
+    }
+
+    @Override
+    public Set<Long> findPendingUserIds() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Long findLastTodoId(Long userId) {
+        Object lastTodoId = stringRedisTemplate.opsForHash().get(PROGRESS_KEY, String.valueOf(userId));
+        return lastTodoId != null ? Long.valueOf((String) lastTodoId) : 0L;
+    }
+
+    @Override
+    public void saveLastTodoId(Long userId, Long lastTodoId) {
+        stringRedisTemplate.opsForHash().put(PROGRESS_KEY, String.valueOf(userId), String.valueOf(lastTodoId));
+    }
+
+    @Override
+    public void complete(Long userId) {
+        stringRedisTemplate.opsForHash().delete(PROGRESS_KEY, String.valueOf(userId));
+        stringRedisTemplate.opsForSet().remove(PENDING_KEY, String.valueOf(userId));
+    }
+}
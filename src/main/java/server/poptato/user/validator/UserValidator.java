@@ -5,20 +5,35 @@ import org.springframework.stereotype.Component;
 import server.poptato.global.exception.CustomException;
 import server.poptato.user.domain.entity.User;
 import server.poptato.user.domain.repository.UserRepository;
+import server.poptato.user.infra.cache.UserExistenceCache;
 import server.poptato.user.status.UserErrorStatus;
 
 @Component
 @RequiredArgsConstructor
 public class UserValidator {
     private final UserRepository userRepository;
+    private final UserExistenceCache userExistenceCache;
 
+    /**
+     * 사용자 존재 여부를 확인합니다.
+     * 최근 존재가 확인된 사용자는 DB 조회 없이 통과합니다.
+     *
+     * @param userId 사용자 ID
+     */
     public void checkIsExistUser(Long userId){
-        userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException(UserErrorStatus._USER_NOT_EXIST));
+        if (userExistenceCache.contains(userId)) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException(UserErrorStatus._USER_NOT_EXIST);
+        }
+        userExistenceCache.put(userId);
     }
 
     public User checkIsExistAndReturnUser(Long userId){
-        return userRepository.findById(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new CustomException(UserErrorStatus._USER_NOT_EXIST));
+        userExistenceCache.put(userId);
+        return user;
     }
 }
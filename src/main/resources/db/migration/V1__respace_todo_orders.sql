@@ -0,0 +1,21 @@
+-- 간격 기반 순서(OrderRank) 도입 이전에 1씩 증가하던 today_order, backlog_order 를 GAP(1024) 간격으로 한 번 다시 매깁니다.
+-- 사용자별 현재 순서를 유지하며, TodoOrderService.rebalance 와 같은 정렬 기준(동일 값은 todo id 순)을 사용합니다.
+-- 가장 아래 항목이 0, 위로 갈수록 1024 씩 커집니다.
+
+UPDATE todo t
+JOIN (
+    SELECT id,
+           (ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY today_order ASC, id DESC) - 1) * 1024 AS new_order
+    FROM todo
+    WHERE today_order IS NOT NULL
+) r ON r.id = t.id
+SET t.today_order = r.new_order;
+
+UPDATE todo t
+JOIN (
+    SELECT id,
+           (ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY backlog_order ASC, id ASC) - 1) * 1024 AS new_order
+    FROM todo
+    WHERE backlog_order IS NOT NULL
+) r ON r.id = t.id
+SET t.backlog_order = r.new_order;
@@ -0,0 +1,5 @@
+-- 오늘/백로그 목록의 가장 위/아래 순서 값과 이웃 순서 값 조회(TodoOrderService)에 사용하는 인덱스입니다.
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행합니다.
+
+CREATE INDEX idx_todo_user_today_order ON todo (user_id, today_order);
+CREATE INDEX idx_todo_user_backlog_order ON todo (user_id, backlog_order);
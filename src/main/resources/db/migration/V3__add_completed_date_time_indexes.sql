@@ -0,0 +1,5 @@
+-- 할 일별 달성 시각 조회와 기간별 히스토리 조회(반열림 구간 date_time >= :start AND date_time < :end)에 사용하는 인덱스입니다.
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행합니다.
+
+CREATE INDEX idx_completed_date_time_todo_date_time ON completed_date_time (todo_id, date_time);
+CREATE INDEX idx_completed_date_time_date_time_todo ON completed_date_time (date_time, todo_id);
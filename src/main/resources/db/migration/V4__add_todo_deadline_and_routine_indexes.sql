@@ -0,0 +1,5 @@
+-- 마감일 기준 미래 히스토리 조회(user_id, type, deadline)와 할 일별 루틴 요일 조회(todo_id, day)에 사용하는 인덱스입니다.
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행합니다.
+
+CREATE INDEX idx_todo_user_type_deadline ON todo (user_id, type, deadline);
+CREATE INDEX idx_routine_todo_day ON routine (todo_id, day);
@@ -0,0 +1,4 @@
+-- 카테고리 삭제 시 카테고리에 속한 할 일 ID를 묶음 단위로 조회(category_id, id 순)하는 데 사용하는 인덱스입니다.
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행합니다.
+
+CREATE INDEX idx_todo_category ON todo (category_id);
@@ -0,0 +1,4 @@
+-- 사용자별 FCM 토큰(client_id) 조회와 푸시 대상 조회에 사용하는 인덱스입니다.
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행합니다.
+
+CREATE INDEX idx_mobile_user ON mobile (user_id);
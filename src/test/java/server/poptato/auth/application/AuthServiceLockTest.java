@@ -10,6 +10,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.application.response.LoginResponseDto;
 import server.poptato.auth.application.service.AuthService;
@@ -87,7 +89,8 @@ class AuthServiceLockTest extends RedisTestConfig {
                 eventPublisher,
                 userRepository,
                 mobileRepository,
-                distributedLockFacade
+                distributedLockFacade,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class))
         );
     }
 
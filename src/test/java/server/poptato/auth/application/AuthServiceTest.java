@@ -10,8 +10,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import server.poptato.auth.api.request.FCMTokenRequestDto;
 import server.poptato.auth.api.request.LoginRequestDto;
 import server.poptato.auth.api.request.ReissueTokenRequestDto;
@@ -72,6 +75,9 @@ class AuthServiceTest extends ServiceTestConfig {
     @Mock
     ApplicationEventPublisher eventPublisher;
 
+    @Spy
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private AuthService authService;
 
@@ -89,7 +95,7 @@ class AuthServiceTest extends ServiceTestConfig {
         // 2. 분산 락 모킹
         Mockito.when(distributedLockFacade.executeWithLock(eq(userInfo.socialId()), any()))
             .thenAnswer(invocation -> {
-                Supplier<LoginResponseDto> supplier = invocation.getArgument(1);
+                Supplier<?> supplier = invocation.getArgument(1);
                 return supplier.get();
             });
 
@@ -164,7 +170,7 @@ class AuthServiceTest extends ServiceTestConfig {
 
         Mockito.when(distributedLockFacade.executeWithLock(eq(userInfo.socialId()), any()))
             .thenAnswer(invocation -> {
-                Supplier<LoginResponseDto> supplier = invocation.getArgument(1);
+                Supplier<?> supplier = invocation.getArgument(1);
                 return supplier.get();
             });
 
@@ -193,7 +199,7 @@ class AuthServiceTest extends ServiceTestConfig {
 
         Mockito.when(distributedLockFacade.executeWithLock(eq(userInfo.socialId()), any()))
             .thenAnswer(invocation -> {
-                Supplier<LoginResponseDto> supplier = invocation.getArgument(1);
+                Supplier<?> supplier = invocation.getArgument(1);
                 return supplier.get();
             });
 
@@ -12,6 +12,7 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.web.servlet.ResultActions;
+import server.poptato.auth.application.service.JwtService;
 import server.poptato.configuration.ControllerTestConfig;
 import server.poptato.emoji.api.controller.EmojiController;
 import server.poptato.emoji.application.response.EmojiDto;
@@ -37,6 +38,9 @@ public class EmojiControllerTest extends ControllerTestConfig {
     @MockBean
     private EmojiService emojiService;
 
+    @MockBean
+    private JwtService jwtService;
+
     @Test
     @DisplayName("이모지 목록을 조회한다.")
     public void getEmojis() throws Exception {
@@ -4,20 +4,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 import server.poptato.configuration.ServiceTestConfig;
 import server.poptato.emoji.application.response.EmojiDto;
 import server.poptato.emoji.application.response.EmojiResponseDto;
+import server.poptato.emoji.application.service.EmojiCatalog;
+import server.poptato.emoji.application.service.EmojiCatalogProvider;
 import server.poptato.emoji.application.service.EmojiService;
 import server.poptato.emoji.domain.entity.Emoji;
-import server.poptato.emoji.domain.repository.EmojiRepository;
 import server.poptato.emoji.domain.value.GroupName;
-import server.poptato.global.util.FileUtil;
 import server.poptato.user.domain.value.MobileType;
 
 import java.util.List;
@@ -25,7 +20,6 @@ import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class EmojiServiceTest extends ServiceTestConfig {
@@ -34,7 +28,7 @@ class EmojiServiceTest extends ServiceTestConfig {
     private EmojiService emojiService;
 
     @Mock
-    private EmojiRepository emojiRepository;
+    private EmojiCatalogProvider emojiCatalogProvider;
 
     private static Emoji emoji(Long id, GroupName group, String url) {
         Emoji e = Emoji.builder()
@@ -46,49 +40,59 @@ class EmojiServiceTest extends ServiceTestConfig {
     }
 
     @Test
-    @DisplayName("[SCN-SVC-EMOJI-001][TC-SVC-EMOJI-001] 서로 다른 그룹으로 묶이고, url 확장자가 치환되고, totalPages를 그대로 반환한다")
+    @DisplayName("[SCN-SVC-EMOJI-001][TC-SVC-EMOJI-001] 서로 다른 그룹으로 묶이고, url 확장자가 치환되고, totalPages를 반환한다")
     void getGroupedEmojisSuccessfully() {
         // given
-        List<Emoji> emojis = List.of(
-                emoji(1L, GroupName.운동, "https://img/1.png"),
-                emoji(2L, GroupName.운동, "https://img/2.png"),
-                emoji(3L, GroupName.데일리, "https://img/3.jpeg")
-        );
-        PageRequest pageRequest = PageRequest.of(0, 70);
-        Page<Emoji> emojiPage = new PageImpl<>(emojis, pageRequest, 3);
-        when(emojiRepository.findAllEmojis(pageRequest)).thenReturn(emojiPage);
+        EmojiCatalog catalog = EmojiCatalog.from(List.of(
+                emoji(1L, GroupName.카테고리컬, "https://img/1.svg"),
+                emoji(3L, GroupName.운동, "https://img/3.svg"),
+                emoji(4L, GroupName.운동, "https://img/4.svg"),
+                emoji(5L, GroupName.데일리, "https://img/5.svg")
+        ));
+        when(emojiCatalogProvider.get()).thenReturn(catalog);
 
-        MobileType mobileType = MobileType.IOS;
+        // when
+        EmojiResponseDto emojiResponseDto = emojiService.getGroupedEmojis(MobileType.IOS, 0, 70);
 
-        try (MockedStatic<FileUtil> mocked = Mockito.mockStatic(FileUtil.class)) {
-            mocked.when(() -> FileUtil.changeFileExtension("https://img/1.png", mobileType.getImageUrlExtension()))
-                    .thenReturn("https://img/1.svg");
-            mocked.when(() -> FileUtil.changeFileExtension("https://img/2.png", mobileType.getImageUrlExtension()))
-                    .thenReturn("https://img/2.svg");
-            mocked.when(() -> FileUtil.changeFileExtension("https://img/3.jpeg", mobileType.getImageUrlExtension()))
-                    .thenReturn("https://img/3.svg");
+        // then
+        verify(emojiCatalogProvider, times(1)).get();
+        assertThat(emojiResponseDto.totalPageCount()).isEqualTo(1);
 
-            // when
-            EmojiResponseDto emojiResponseDto = emojiService.getGroupedEmojis(mobileType, 0, 70);
+        Map<String, List<EmojiDto>> grouped = emojiResponseDto.groupEmojis();
+        assertThat(grouped).hasSize(2);
 
-            // then
-            verify(emojiRepository, times(1)).findAllEmojis(pageRequest);
-            assertThat(emojiResponseDto.totalPageCount()).isEqualTo(1);
+        assertThat(grouped.get("운동"))
+                .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
+                .containsExactly(
+                        tuple(3L, "https://img/3.pdf"),
+                        tuple(4L, "https://img/4.pdf")
+                );
+        assertThat(grouped.get("데일리"))
+                .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
+                .containsExactly(
+                        tuple(5L, "https://img/5.pdf")
+                );
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-EMOJI-001][TC-SVC-EMOJI-002] 요청한 페이지의 이모지만 반환한다")
+    void getGroupedEmojisByPage() {
+        // given
+        EmojiCatalog catalog = EmojiCatalog.from(List.of(
+                emoji(3L, GroupName.운동, "https://img/3.svg"),
+                emoji(4L, GroupName.운동, "https://img/4.svg"),
+                emoji(5L, GroupName.데일리, "https://img/5.svg")
+        ));
+        when(emojiCatalogProvider.get()).thenReturn(catalog);
 
-            Map<String, List<EmojiDto>> grouped = emojiResponseDto.groupEmojis();
-            assertThat(grouped).hasSize(2);
+        // when
+        EmojiResponseDto emojiResponseDto = emojiService.getGroupedEmojis(MobileType.ANDROID, 1, 2);
 
-            assertThat(grouped.get("운동"))
-                    .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
-                    .containsExactlyInAnyOrder(
-                            tuple(1L, "https://img/1.svg"),
-                            tuple(2L, "https://img/2.svg")
-                    );
-            assertThat(grouped.get("데일리"))
-                    .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
-                    .containsExactly(
-                            tuple(3L, "https://img/3.svg")
-                    );
-        }
+        // then
+        assertThat(emojiResponseDto.totalPageCount()).isEqualTo(2);
+        assertThat(emojiResponseDto.groupEmojis()).containsOnlyKeys("데일리");
+        assertThat(emojiResponseDto.groupEmojis().get("데일리"))
+                .extracting(EmojiDto::emojiId, EmojiDto::imageUrl)
+                .containsExactly(tuple(5L, "https://img/5.svg"));
     }
-}
\ No newline at end of file
+}
@@ -137,4 +137,23 @@ class LettuceLockRepositoryTest extends RedisTestConfig {
         assertThat(stored).isNotBlank();
     }
 
+    @Test
+    @DisplayName("[SCN-LOCK-REDIS-002][TC-LOCK-REDIS-005] 토큰이 일치하면 TTL 을 연장하고, 다르면 연장하지 않음")
+    void extend_토큰일치시_TTL_연장() {
+        // given
+        String key = "ttl";
+        String token = lockRepository.lock(key, Duration.ofMillis(500));
+
+        // when
+        boolean extended = lockRepository.extend(key, token, Duration.ofSeconds(10));
+        boolean notMine = lockRepository.extend(key, "NOT-MY-TOKEN", Duration.ofSeconds(60));
+        Long remainMs = stringRedisTemplate.getExpire(ns(key), TimeUnit.MILLISECONDS);
+
+        // then
+        assertThat(extended).isTrue();
+        assertThat(notMine).isFalse();
+        assertThat(remainMs).isGreaterThan(500L);
+        assertThat(remainMs).isLessThanOrEqualTo(10_000L);
+    }
+
 }
@@ -126,6 +126,89 @@ public class TodoBacklogControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("백로그 목록을 커서 기반으로 조회한다.")
+    public void getBacklogListByCursor() throws Exception {
+        // given
+        CursorBacklogListResponseDto response = new CursorBacklogListResponseDto(
+                "Sample Category",
+                List.of(new BacklogResponseDto(
+                        1L,
+                        "content1",
+                        true,
+                        false,
+                        true,
+                        0,
+                        LocalTime.of(23, 55),
+                        LocalDate.now(),
+                        List.of("월", "화"),
+                        "category1",
+                        "url1"
+                )),
+                "MTB8MQ",
+                true
+        );
+
+        Mockito.when(jwtService.extractUserIdFromToken(token)).thenReturn(1L);
+        Mockito.when(todoBacklogService.getBacklogListByCursor(anyLong(), anyLong(), any(MobileType.class), any(), anyInt())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/backlogs/cursor")
+                        .param("category", "1")
+                        .param("cursor", "MTF8Mg")
+                        .param("size", "8")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header("X-Mobile-Type", "ANDROID")
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.code").value("GLOBAL-200"))
+                .andExpect(jsonPath("$.message").value("요청 응답에 성공했습니다."))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("backlog/get-backlogs-cursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Todo-Backlog API")
+                                        .description("백로그 목록을 커서 기반으로 조회한다.")
+                                        .queryParameters(
+                                                parameterWithName("category").description("카테고리 ID"),
+                                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 조회 시 생략)").optional(),
+                                                parameterWithName("size").description("조회할 항목 수")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("isSuccess").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("result.categoryName").type(JsonFieldType.STRING).description("카테고리 이름"),
+                                                fieldWithPath("result.backlogs").type(JsonFieldType.ARRAY).description("백로그 목록"),
+                                                fieldWithPath("result.backlogs[].todoId").type(JsonFieldType.NUMBER).description("할 일 ID"),
+                                                fieldWithPath("result.backlogs[].content").type(JsonFieldType.STRING).description("할 일 내용"),
+                                                fieldWithPath("result.backlogs[].isBookmark").type(JsonFieldType.BOOLEAN).description("중요 여부"),
+                                                fieldWithPath("result.backlogs[].isRepeat").type(JsonFieldType.BOOLEAN).description("일반 반복 여부"),
+                                                fieldWithPath("result.backlogs[].isRoutine").type(JsonFieldType.BOOLEAN).description("요일 반복 여부"),
+                                                fieldWithPath("result.backlogs[].dDay").type(JsonFieldType.NUMBER).description("마감일까지 남은 일 수"),
+                                                fieldWithPath("result.backlogs[].time").type(JsonFieldType.STRING).description("시간"),
+                                                fieldWithPath("result.backlogs[].deadline").type(JsonFieldType.STRING).description("마감일"),
+                                                fieldWithPath("result.backlogs[].routineDays").type(JsonFieldType.ARRAY).description("루틴 요일 목록"),
+                                                fieldWithPath("result.backlogs[].categoryName").type(JsonFieldType.STRING).description("카테고리명"),
+                                                fieldWithPath("result.backlogs[].imageUrl").type(JsonFieldType.STRING).description("카테고리 이모지 이미지 URL"),
+                                                fieldWithPath("result.nextCursor").type(JsonFieldType.STRING).description("다음 조회 커서").optional(),
+                                                fieldWithPath("result.hasNext").type(JsonFieldType.BOOLEAN).description("다음 항목 존재 여부")
+                                        )
+                                        .responseSchema(Schema.schema("CursorBacklogListResponse"))
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("백로그를 생성한다.")
     public void createBacklog() throws Exception {
@@ -304,6 +304,78 @@ public class TodoControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("여러 할 일의 상세 정보를 한 번에 조회한다.")
+    public void getTodoInfos() throws Exception {
+        // given
+        TodoDetailListResponseDto response = new TodoDetailListResponseDto(List.of(
+                new TodoDetailItemResponseDto(1L, new TodoDetailResponseDto(
+                        "할 일 내용",
+                        LocalTime.of(12, 55),
+                        LocalDate.of(2025, 1, 30),
+                        "개발",
+                        "http://example.com/emoji.png",
+                        true,
+                        false,
+                        true,
+                        List.of("월", "수")
+                ))
+        ));
+
+        Mockito.when(jwtService.extractUserIdFromToken(token)).thenReturn(1L);
+        Mockito.when(todoService.getTodoInfos(anyLong(), any(), anyList())).thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/todos/details")
+                        .param("todoIds", "1", "2")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .header("X-Mobile-Type", "ANDROID")
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.code").value("GLOBAL-200"))
+                .andExpect(jsonPath("$.result.todoDetails[0].todoId").value(1))
+                .andExpect(jsonPath("$.result.todoDetails[0].detail.content").value("할 일 내용"))
+                .andExpect(jsonPath("$.result.todoDetails[0].detail.routineDays[1]").value("수"))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("todo/get-details",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Todo API")
+                                        .description("여러 할 일의 상세 정보를 한 번에 조회한다.")
+                                        .queryParameters(
+                                                parameterWithName("todoIds").description("조회할 할 일 ID 목록 (최대 50개)")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("isSuccess").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("result.todoDetails").type(JsonFieldType.ARRAY).description("할 일 상세 정보 목록 (요청 순서, 조회할 수 없는 ID는 제외)"),
+                                                fieldWithPath("result.todoDetails[].todoId").type(JsonFieldType.NUMBER).description("할 일 ID"),
+                                                fieldWithPath("result.todoDetails[].detail.content").type(JsonFieldType.STRING).description("할 일 내용"),
+                                                fieldWithPath("result.todoDetails[].detail.time").type(JsonFieldType.STRING).description("시간"),
+                                                fieldWithPath("result.todoDetails[].detail.deadline").type(JsonFieldType.STRING).description("마감 기한"),
+                                                fieldWithPath("result.todoDetails[].detail.categoryName").type(JsonFieldType.STRING).description("카테고리 이름"),
+                                                fieldWithPath("result.todoDetails[].detail.emojiImageUrl").type(JsonFieldType.STRING).description("카테고리 이모지 이미지 URL"),
+                                                fieldWithPath("result.todoDetails[].detail.isBookmark").type(JsonFieldType.BOOLEAN).description("즐겨찾기 여부"),
+                                                fieldWithPath("result.todoDetails[].detail.isRepeat").type(JsonFieldType.BOOLEAN).description("일반 반복 설정 여부"),
+                                                fieldWithPath("result.todoDetails[].detail.isRoutine").type(JsonFieldType.BOOLEAN).description("요일 반복 설정 여부"),
+                                                fieldWithPath("result.todoDetails[].detail.routineDays").type(JsonFieldType.ARRAY).description("루틴 요일 목록")
+                                        )
+                                        .responseSchema(Schema.schema("TodoDetailListResponse"))
+                                        .build()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("X-Mobile-Type 헤더가 없는 경우 기본값(ANDROID)으로 처리된다")
     void getTodoInfo_DefaultMobileType() throws Exception {
@@ -867,6 +939,66 @@ public class TodoControllerTest extends ControllerTestConfig {
                 ));
     }
 
+    @Test
+    @DisplayName("특정 날짜의 할 일 히스토리를 커서 기반으로 조회한다.")
+    public void getHistoriesByCursor() throws Exception {
+        // given
+        CursorHistoryResponseDto response = new CursorHistoryResponseDto(List.of(
+                new HistoryResponseDto(1L, "test", LocalTime.of(16, 0, 0), true)
+        ), "MjAyNS0wMS0yOVQxNjowMHwx", true);
+
+        Mockito.when(jwtService.extractUserIdFromToken(token)).thenReturn(1L);
+        Mockito.when(todoService.getHistoriesByCursor(anyLong(), any(LocalDate.class), any(), anyInt()))
+                .thenReturn(response);
+
+        // when
+        ResultActions resultActions = this.mockMvc.perform(
+                RestDocumentationRequestBuilders.get("/histories/cursor")
+                        .param("cursor", "MjAyNS0wMS0yOVQxNTowMHwz")
+                        .param("size", "15")
+                        .param("date", "2025-01-29")
+                        .header(HttpHeaders.AUTHORIZATION, token)
+                        .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuccess").value(true))
+                .andExpect(jsonPath("$.code").value("GLOBAL-200"))
+                .andExpect(jsonPath("$.message").value("요청 응답에 성공했습니다."))
+
+                // docs
+                .andDo(MockMvcRestDocumentationWrapper.document("todo/get-histories-cursor",
+                        preprocessRequest(prettyPrint()),
+                        preprocessResponse(prettyPrint()),
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("Todo API")
+                                        .description("특정 날짜의 할 일 히스토리를 커서 기반으로 조회한다.")
+                                        .queryParameters(
+                                                parameterWithName("cursor").description("이전 응답의 nextCursor (첫 조회 시 생략)").optional(),
+                                                parameterWithName("size").description("조회할 항목 수"),
+                                                parameterWithName("date").description("조회할 날짜 (YYYY-MM-DD)")
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("isSuccess").type(JsonFieldType.BOOLEAN).description("성공 여부"),
+                                                fieldWithPath("code").type(JsonFieldType.STRING).description("응답 코드"),
+                                                fieldWithPath("message").type(JsonFieldType.STRING).description("응답 메시지"),
+                                                fieldWithPath("result.histories").type(JsonFieldType.ARRAY).description("히스토리 목록"),
+                                                fieldWithPath("result.histories[].todoId").type(JsonFieldType.NUMBER).description("할 일 ID"),
+                                                fieldWithPath("result.histories[].content").type(JsonFieldType.STRING).description("할 일 내용"),
+                                                fieldWithPath("result.histories[].time").type(JsonFieldType.STRING).description("할 일에 설정한 시간"),
+                                                fieldWithPath("result.histories[].isCompleted").type(JsonFieldType.BOOLEAN).description("할 일의 완료여부"),
+                                                fieldWithPath("result.nextCursor").type(JsonFieldType.STRING).description("다음 조회 커서").optional(),
+                                                fieldWithPath("result.hasNext").type(JsonFieldType.BOOLEAN).description("다음 항목 존재 여부")
+                                        )
+                                        .responseSchema(Schema.schema("CursorHistoryResponse"))
+                                        .build()
+                        )
+                ));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "V2, V2",
@@ -882,14 +1014,14 @@ public class TodoControllerTest extends ControllerTestConfig {
                     new HistoryCalendarResponseDto(LocalDate.of(2025, 1, 1), -1),
                     new HistoryCalendarResponseDto(LocalDate.of(2025, 1, 15), -1)
             ));
-            Mockito.when(todoService.getHistoriesCalendar(anyLong(), anyString(), anyInt()))
+            Mockito.when(todoService.getHistoriesCalendar(anyLong(), anyString(), anyInt(), anyInt()))
                     .thenReturn(response);
         } else {
             List<LocalDate> legacyDates = List.of(
                     LocalDate.of(2025, 1, 1),
                     LocalDate.of(2025, 1, 15)
             );
-            Mockito.when(todoService.getLegacyHistoriesCalendar(anyLong(), anyString(), anyInt()))
+            Mockito.when(todoService.getLegacyHistoriesCalendar(anyLong(), anyString(), anyInt(), anyInt()))
                     .thenReturn(legacyDates);
         }
 
@@ -957,7 +1089,7 @@ public class TodoControllerTest extends ControllerTestConfig {
         );
 
         Mockito.when(jwtService.extractUserIdFromToken(token)).thenReturn(1L);
-        Mockito.when(todoService.getLegacyHistoriesCalendar(anyLong(), anyString(), anyInt()))
+        Mockito.when(todoService.getLegacyHistoriesCalendar(anyLong(), anyString(), anyInt(), anyInt()))
                 .thenReturn(legacyDates);
 
         // when
@@ -0,0 +1,98 @@
+package server.poptato.todo.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.todo.application.event.CalendarChangeEvent;
+import server.poptato.todo.application.listener.CalendarEventListener;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CalendarEventListenerTest extends ServiceTestConfig {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private CalendarSummaryRepository calendarSummaryRepository;
+
+    @InjectMocks
+    private CalendarEventListener calendarEventListener;
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-001][TC-SVC-CALENDAR-001] 완료 처리는 완료 날짜의 히스토리 개수를 1 올린다")
+    void handleCalendarChange_완료_히스토리_증가() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 10);
+
+        // when
+        calendarEventListener.handleCalendarChange(CalendarChangeEvent.completed(USER_ID, date));
+
+        // then
+        verify(calendarSummaryRepository).incrementHistoryCount(USER_ID, date, 1);
+        verifyNoMoreInteractions(calendarSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-001][TC-SVC-CALENDAR-002] 마감일 변경은 이전 날짜를 1 내리고 새 날짜를 1 올린다")
+    void handleCalendarChange_마감일_변경() {
+        // given
+        LocalDate oldDeadline = LocalDate.of(2025, 3, 10);
+        LocalDate newDeadline = LocalDate.of(2025, 4, 2);
+
+        // when
+        calendarEventListener.handleCalendarChange(CalendarChangeEvent.deadlineChanged(USER_ID, oldDeadline, newDeadline));
+
+        // then
+        verify(calendarSummaryRepository).incrementBacklogCount(USER_ID, oldDeadline, -1);
+        verify(calendarSummaryRepository).incrementBacklogCount(USER_ID, newDeadline, 1);
+        verifyNoMoreInteractions(calendarSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-001][TC-SVC-CALENDAR-003] 루틴 요일 변경은 빠진 요일을 내리고 추가된 요일을 올린다")
+    void handleCalendarChange_루틴_변경() {
+        // when
+        calendarEventListener.handleCalendarChange(
+                CalendarChangeEvent.routineChanged(USER_ID, List.of("월", "화"), List.of("화", "수")));
+
+        // then
+        verify(calendarSummaryRepository).incrementRoutineCount(USER_ID, "월", -1);
+        verify(calendarSummaryRepository).incrementRoutineCount(USER_ID, "수", 1);
+        verify(calendarSummaryRepository, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-002][TC-SVC-CALENDAR-004] reset 이벤트는 증감 없이 요약을 무효화한다")
+    void handleCalendarChange_reset_무효화() {
+        // when
+        calendarEventListener.handleCalendarChange(CalendarChangeEvent.reset(USER_ID));
+
+        // then
+        verify(calendarSummaryRepository).evict(USER_ID);
+        verifyNoMoreInteractions(calendarSummaryRepository);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-002][TC-SVC-CALENDAR-005] 증감 반영에 실패하면 요약을 무효화한다")
+    void handleCalendarChange_실패시_무효화() {
+        // given
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        doThrow(new IllegalStateException("redis down"))
+                .when(calendarSummaryRepository).incrementHistoryCount(anyLong(), any(), anyInt());
+
+        // when
+        calendarEventListener.handleCalendarChange(CalendarChangeEvent.completed(USER_ID, date));
+
+        // then
+        verify(calendarSummaryRepository).evict(USER_ID);
+    }
+}
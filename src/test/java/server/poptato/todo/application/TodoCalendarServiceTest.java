@@ -0,0 +1,108 @@
+package server.poptato.todo.application;
+
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import server.poptato.configuration.ServiceTestConfig;
+import server.poptato.global.exception.CustomException;
+import server.poptato.todo.domain.repository.CalendarSummaryRepository;
+import server.poptato.todo.domain.repository.CompletedDateTimeRepository;
+import server.poptato.todo.domain.repository.RoutineRepository;
+import server.poptato.todo.domain.repository.TodoRepository;
+import server.poptato.todo.domain.value.CalendarSummary;
+import server.poptato.todo.status.TodoErrorStatus;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TodoCalendarServiceTest extends ServiceTestConfig {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private CalendarSummaryRepository calendarSummaryRepository;
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private RoutineRepository routineRepository;
+
+    @Mock
+    private CompletedDateTimeRepository completedDateTimeRepository;
+
+    @InjectMocks
+    private TodoCalendarService todoCalendarService;
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-003][TC-SVC-CALENDAR-006] 요약이 모두 있으면 DB를 조회하지 않는다")
+    void getHistoryDates_요약있음_DB조회없음() {
+        // given
+        YearMonth month = YearMonth.of(2025, 3);
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        when(calendarSummaryRepository.find(USER_ID, List.of(month)))
+                .thenReturn(new CalendarSummary(Set.of(), true, Map.of(date, 1), Map.of(), Map.of()));
+
+        // when
+        List<LocalDate> result = todoCalendarService.getHistoryDates(USER_ID, month, 1);
+
+        // then
+        assertThat(result).containsExactly(date);
+        verify(calendarSummaryRepository, never()).beginLoad(anyLong(), any(), anyBoolean());
+        verifyNoInteractions(todoRepository, routineRepository, completedDateTimeRepository);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-003][TC-SVC-CALENDAR-007] 요약이 없는 월은 적재 토큰을 기록한 뒤 집계하여 저장한다")
+    void getHistoryDates_요약없음_적재후_저장() {
+        // given
+        YearMonth month = YearMonth.of(2025, 3);
+        LocalDate date = LocalDate.of(2025, 3, 10);
+        when(calendarSummaryRepository.find(USER_ID, List.of(month)))
+                .thenReturn(new CalendarSummary(Set.of(month), true, Map.of(), Map.of(), Map.of()));
+        when(calendarSummaryRepository.beginLoad(USER_ID, Set.of(month), false)).thenReturn("token");
+        List<Tuple> historyCounts = List.of(dateCount(date, 2));
+        when(completedDateTimeRepository.findDatesWithHistoryCount(eq(USER_ID), any(), any())).thenReturn(historyCounts);
+        when(todoRepository.findDatesWithBacklogCount(eq(USER_ID), any(), any())).thenReturn(List.of());
+
+        // when
+        List<LocalDate> result = todoCalendarService.getHistoryDates(USER_ID, month, 1);
+
+        // then
+        assertThat(result).containsExactly(date);
+        var inOrder = inOrder(calendarSummaryRepository, completedDateTimeRepository);
+        inOrder.verify(calendarSummaryRepository).beginLoad(USER_ID, Set.of(month), false);
+        inOrder.verify(completedDateTimeRepository).findDatesWithHistoryCount(eq(USER_ID), any(), any());
+        inOrder.verify(calendarSummaryRepository).saveMonth(USER_ID, month, "token", Map.of(date, 2), Map.of());
+        verifyNoInteractions(routineRepository);
+    }
+
+    @Test
+    @DisplayName("[SCN-SVC-CALENDAR-003][TC-SVC-CALENDAR-008] 조회 기간이 12개월을 넘으면 예외가 발생한다")
+    void getCalendarCounts_기간초과_예외() {
+        // when
+        CustomException exception = assertThrows(CustomException.class, () ->
+                todoCalendarService.getCalendarCounts(USER_ID, YearMonth.of(2025, 1), 13));
+
+        // then
+        assertThat(exception.getErrorCode()).isEqualTo(TodoErrorStatus._INVALID_CALENDAR_RANGE);
+    }
+
+    private Tuple dateCount(LocalDate date, long count) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("date")).thenReturn(Date.valueOf(date));
+        when(tuple.get("count")).thenReturn(count);
+        return tuple;
+    }
+}
@@ -0,0 +1,35 @@
+package server.poptato.todo.domain.value;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import server.poptato.global.exception.CustomException;
+import server.poptato.global.util.CursorUtil;
+
+public class BacklogCursorTest {
+
+    @Test
+    @DisplayName("[SCN-VAL-CURSOR-001][TC-VAL-CURSOR-001] 인코딩한 커서를 디코딩하면 같은 값을 반환한다")
+    void encode_decode_같은값() {
+        BacklogCursor cursor = new BacklogCursor(2048, 10L);
+
+        Assertions.assertThat(BacklogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("[SCN-VAL-CURSOR-001][TC-VAL-CURSOR-002] backlogOrder 가 없는 항목의 커서도 디코딩할 수 있다")
+    void encode_decode_backlogOrder_없음() {
+        BacklogCursor cursor = new BacklogCursor(null, 10L);
+
+        Assertions.assertThat(BacklogCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("[SCN-VAL-CURSOR-001][TC-VAL-CURSOR-003] 숫자가 아닌 값이 들어 있으면 예외가 발생한다")
+    void decode_잘못된값_예외() {
+        String cursor = CursorUtil.encode("abc", 10L);
+
+        Assertions.assertThatThrownBy(() -> BacklogCursor.decode(cursor))
+                .isInstanceOf(CustomException.class);
+    }
+}
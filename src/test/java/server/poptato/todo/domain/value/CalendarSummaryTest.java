@@ -0,0 +1,41 @@
+package server.poptato.todo.domain.value;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+
+public class CalendarSummaryTest {
+
+    private static final LocalDate MARCH = LocalDate.of(2025, 3, 10);
+    private static final LocalDate APRIL = LocalDate.of(2025, 4, 2);
+
+    @Test
+    @DisplayName("[SCN-VAL-CALENDAR-001][TC-VAL-CALENDAR-001] 새로 적재한 월 요약을 기존 요약에 합친다")
+    void merge_적재한_월_합침() {
+        CalendarSummary summary = new CalendarSummary(
+                Set.of(YearMonth.from(APRIL)), true, Map.of(MARCH, 1), Map.of(MARCH, 2), Map.of("월", 1));
+
+        CalendarSummary merged = summary.merge(Map.of(APRIL, 3), Map.of(APRIL, 4), null);
+
+        Assertions.assertThat(merged.isComplete()).isTrue();
+        Assertions.assertThat(merged.historyCounts()).containsOnly(Map.entry(MARCH, 1), Map.entry(APRIL, 3));
+        Assertions.assertThat(merged.backlogCounts()).containsOnly(Map.entry(MARCH, 2), Map.entry(APRIL, 4));
+        Assertions.assertThat(merged.routineCounts()).containsOnly(Map.entry("월", 1));
+    }
+
+    @Test
+    @DisplayName("[SCN-VAL-CALENDAR-001][TC-VAL-CALENDAR-002] 루틴 개수를 새로 적재했다면 기존 루틴 개수를 대체한다")
+    void merge_루틴_대체() {
+        CalendarSummary summary = new CalendarSummary(Set.of(), false, Map.of(), Map.of(), Map.of());
+
+        CalendarSummary merged = summary.merge(Map.of(), Map.of(), Map.of("화", 2));
+
+        Assertions.assertThat(merged.routineLoaded()).isTrue();
+        Assertions.assertThat(merged.routineCounts()).containsOnly(Map.entry("화", 2));
+    }
+}
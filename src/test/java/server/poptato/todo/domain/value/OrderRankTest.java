@@ -0,0 +1,117 @@
+package server.poptato.todo.domain.value;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class OrderRankTest {
+
+    @Nested
+    @DisplayName("[SCN-VAL-ORDER-001] 목록 끝에 새 순서 값을 계산한다")
+    class Edge {
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-001] 항목이 없으면 초기 값을 반환한다")
+        void above_항목없음_초기값() {
+            Assertions.assertThat(OrderRank.above(null)).isEqualTo(OrderRank.INITIAL);
+            Assertions.assertThat(OrderRank.below(null)).isEqualTo(OrderRank.INITIAL);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-002] 가장 위/아래 값에서 GAP 만큼 떨어진 값을 반환한다")
+        void above_below_GAP_간격() {
+            Assertions.assertThat(OrderRank.above(2048)).isEqualTo(2048 + OrderRank.GAP);
+            Assertions.assertThat(OrderRank.below(-2048)).isEqualTo(-2048 - OrderRank.GAP);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-003] 범위 끝에 가까우면 넘치지 않고 재정렬 대상으로 판단한다")
+        void above_범위끝_넘치지않음() {
+            int order = OrderRank.above(Integer.MAX_VALUE - 10);
+
+            Assertions.assertThat(order).isGreaterThan(Integer.MAX_VALUE - 10);
+            Assertions.assertThat(OrderRank.isCrowded(order)).isTrue();
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-008] 범위 끝에 닿으면 같은 값을 반환하지 않고 간격 소진으로 판단한다")
+        void above_below_범위끝_간격소진() {
+            int top = OrderRank.above(Integer.MAX_VALUE - 2);
+            int bottom = OrderRank.below(Integer.MIN_VALUE + 2);
+
+            Assertions.assertThat(OrderRank.hasRoomAbove(top)).isFalse();
+            Assertions.assertThat(OrderRank.hasRoomBelow(bottom)).isFalse();
+            Assertions.assertThatThrownBy(() -> OrderRank.above(top)).isInstanceOf(IllegalStateException.class);
+            Assertions.assertThatThrownBy(() -> OrderRank.below(bottom)).isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-009] 여러 항목을 위에 쌓을 간격이 있는지 확인한다")
+        void hasRoomAbove_여러_항목() {
+            Assertions.assertThat(OrderRank.hasRoomAbove(null, 3)).isTrue();
+            Assertions.assertThat(OrderRank.hasRoomAbove(2048, 3)).isTrue();
+            Assertions.assertThat(OrderRank.hasRoomAbove(Integer.MAX_VALUE - 1 - OrderRank.GAP * 2, 2)).isTrue();
+            Assertions.assertThat(OrderRank.hasRoomAbove(Integer.MAX_VALUE - 1 - OrderRank.GAP * 2, 3)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("[SCN-VAL-ORDER-002] 드래그 앤 드롭 순서를 계산한다")
+    class Reorder {
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-004] 가운데 항목을 맨 위로 옮기면 해당 항목만 변경된다")
+        void reorder_맨위로_한항목만_변경() {
+            // given: 기존 순서 [3072, 2048, 1024] 중 1024를 맨 위로 이동
+            int[] current = {1024, 3072, 2048};
+
+            // when
+            int[] result = OrderRank.reorder(current, null, null);
+
+            // then
+            Assertions.assertThat(result).isNotNull();
+            Assertions.assertThat(result[0]).isGreaterThan(3072);
+            Assertions.assertThat(result[1]).isEqualTo(3072);
+            Assertions.assertThat(result[2]).isEqualTo(2048);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-005] 이웃 사이로 옮기면 두 이웃의 중간 값이 된다")
+        void reorder_이웃사이_중간값() {
+            // given: [4096, 3072, 2048, 1024] 중 1024를 3072와 2048 사이로 이동
+            int[] current = {4096, 3072, 1024, 2048};
+
+            // when
+            int[] result = OrderRank.reorder(current, null, null);
+
+            // then
+            Assertions.assertThat(result).isNotNull();
+            Assertions.assertThat(result[0]).isEqualTo(4096);
+            Assertions.assertThat(result[1]).isEqualTo(3072);
+            Assertions.assertThat(result[3]).isEqualTo(2048);
+            Assertions.assertThat(result[2]).isBetween(2049, 3071);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-006] 목록 밖 이웃을 넘지 않는다")
+        void reorder_목록밖_이웃_넘지않음() {
+            int[] current = {1, 3, 2};
+
+            int[] result = OrderRank.reorder(current, 5, null);
+
+            Assertions.assertThat(result).isNotNull();
+            Assertions.assertThat(result[0]).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("[TC-VAL-ORDER-007] 간격이 없으면 null을 반환한다")
+        void reorder_간격없음_null() {
+            int[] current = {1, 3, 2};
+
+            int[] result = OrderRank.reorder(current, 4, null);
+
+            Assertions.assertThat(result).isNull();
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package server.poptato.todo.infra;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import server.poptato.configuration.RedisTestConfig;
+import server.poptato.todo.domain.value.CalendarSummary;
+import server.poptato.todo.infra.repository.impl.CalendarSummaryRepositoryImpl;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarSummaryRepositoryImplTest extends RedisTestConfig {
+
+    private static final Long USER_ID = 1L;
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    StringRedisTemplate stringRedisTemplate;
+
+    private CalendarSummaryRepositoryImpl calendarSummaryRepository;
+
+    @BeforeEach
+    void setUp() {
+        Assertions.assertNotNull(stringRedisTemplate.getConnectionFactory());
+        stringRedisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        calendarSummaryRepository = new CalendarSummaryRepositoryImpl(
+                stringRedisTemplate, Mockito.mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-CALENDAR-001][TC-REP-CALENDAR-001] 적재한 월 요약과 루틴 개수를 조회한다")
+    void saveMonth_적재후_조회() {
+        // given
+        String loadToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), true);
+
+        // when
+        boolean monthSaved = calendarSummaryRepository.saveMonth(USER_ID, MONTH, loadToken, Map.of(DATE, 2), Map.of(DATE, 1));
+        boolean routineSaved = calendarSummaryRepository.saveRoutineCounts(USER_ID, loadToken, Map.of("월", 3));
+        CalendarSummary summary = calendarSummaryRepository.find(USER_ID, List.of(MONTH));
+
+        // then
+        assertThat(monthSaved).isTrue();
+        assertThat(routineSaved).isTrue();
+        assertThat(summary.isComplete()).isTrue();
+        assertThat(summary.historyCounts()).containsExactlyEntriesOf(Map.of(DATE, 2));
+        assertThat(summary.backlogCounts()).containsExactlyEntriesOf(Map.of(DATE, 1));
+        assertThat(summary.routineCounts()).containsExactlyEntriesOf(Map.of("월", 3));
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-CALENDAR-001][TC-REP-CALENDAR-002] 적재된 월에만 증감을 반영한다")
+    void increment_적재된_월에만_반영() {
+        // given
+        String loadToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), false);
+        calendarSummaryRepository.saveMonth(USER_ID, MONTH, loadToken, Map.of(DATE, 1), Map.of());
+
+        // when
+        calendarSummaryRepository.incrementHistoryCount(USER_ID, DATE, 1);
+        calendarSummaryRepository.incrementBacklogCount(USER_ID, DATE.plusMonths(1), 1);
+        CalendarSummary summary = calendarSummaryRepository.find(USER_ID, List.of(MONTH, MONTH.plusMonths(1)));
+
+        // then
+        assertThat(summary.historyCounts()).containsExactlyEntriesOf(Map.of(DATE, 2));
+        assertThat(summary.backlogCounts()).isEmpty();
+        assertThat(summary.missingMonths()).containsExactly(MONTH.plusMonths(1));
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-CALENDAR-002][TC-REP-CALENDAR-003] 집계 중 증감이 들어오면 집계 결과를 저장하지 않는다")
+    void saveMonth_집계중_증감시_저장거절() {
+        // given
+        String loadToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), true);
+        calendarSummaryRepository.incrementHistoryCount(USER_ID, DATE, 1);
+        calendarSummaryRepository.incrementRoutineCount(USER_ID, "월", 1);
+
+        // when
+        boolean monthSaved = calendarSummaryRepository.saveMonth(USER_ID, MONTH, loadToken, Map.of(), Map.of());
+        boolean routineSaved = calendarSummaryRepository.saveRoutineCounts(USER_ID, loadToken, Map.of());
+        CalendarSummary summary = calendarSummaryRepository.find(USER_ID, List.of(MONTH));
+
+        // then
+        assertThat(monthSaved).isFalse();
+        assertThat(routineSaved).isFalse();
+        assertThat(summary.missingMonths()).containsExactly(MONTH);
+        assertThat(summary.routineLoaded()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-CALENDAR-002][TC-REP-CALENDAR-004] 나중에 시작한 적재가 있으면 먼저 시작한 적재는 저장하지 않는다")
+    void saveMonth_다른_적재가_시작되면_저장거절() {
+        // given
+        String staleToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), false);
+        String latestToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), false);
+
+        // when
+        boolean staleSaved = calendarSummaryRepository.saveMonth(USER_ID, MONTH, staleToken, Map.of(DATE, 5), Map.of());
+        boolean latestSaved = calendarSummaryRepository.saveMonth(USER_ID, MONTH, latestToken, Map.of(DATE, 1), Map.of());
+
+        // then
+        assertThat(staleSaved).isFalse();
+        assertThat(latestSaved).isTrue();
+        assertThat(calendarSummaryRepository.find(USER_ID, List.of(MONTH)).historyCounts())
+                .containsExactlyEntriesOf(Map.of(DATE, 1));
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-CALENDAR-003][TC-REP-CALENDAR-005] evictAll 이후에는 기존 요약을 조회하지 않는다")
+    void evictAll_전체_무효화() {
+        // given
+        String loadToken = calendarSummaryRepository.beginLoad(USER_ID, List.of(MONTH), false);
+        calendarSummaryRepository.saveMonth(USER_ID, MONTH, loadToken, Map.of(DATE, 1), Map.of());
+
+        // when
+        calendarSummaryRepository.evictAll();
+        CalendarSummary summary = calendarSummaryRepository.find(USER_ID, List.of(MONTH));
+
+        // then
+        assertThat(summary.missingMonths()).containsExactly(MONTH);
+        assertThat(summary.historyCounts()).isEmpty();
+    }
+}
@@ -0,0 +1,94 @@
+package server.poptato.todo.infra;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import server.poptato.configuration.DatabaseTestConfig;
+import server.poptato.todo.domain.entity.TimeAlarm;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.TimeAlarmPushTargetProjection;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.todo.infra.repository.JpaTimeAlarmRepository;
+import server.poptato.user.domain.entity.Mobile;
+import server.poptato.user.domain.entity.User;
+import server.poptato.user.domain.value.MobileType;
+import server.poptato.user.domain.value.SocialType;
+
+import java.time.LocalTime;
+import java.util.List;
+
+class JpaTimeAlarmRepositoryTest extends DatabaseTestConfig {
+
+    private static final LocalTime FROM = LocalTime.of(9, 0);
+    private static final LocalTime TO = LocalTime.of(10, 0);
+
+    @Autowired
+    private JpaTimeAlarmRepository jpaTimeAlarmRepository;
+
+    private User persistUser(String socialId) {
+        User user = User.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId(socialId)
+                .name(socialId)
+                .email(socialId + "@test.com")
+                .isPushAlarm(true)
+                .build();
+        tem.persist(user);
+        return user;
+    }
+
+    private TimeAlarm persistAlarm(User user, String content, LocalTime time) {
+        Todo todo = Todo.builder()
+                .userId(user.getId())
+                .content(content)
+                .type(Type.TODAY)
+                .time(time)
+                .todayStatus(TodayStatus.INCOMPLETE)
+                .build();
+        tem.persist(todo);
+        TimeAlarm timeAlarm = TimeAlarm.builder()
+                .todoId(todo.getId())
+                .userId(user.getId())
+                .build();
+        tem.persist(timeAlarm);
+        return timeAlarm;
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-ALARM-001][TC-REP-ALARM-001] 알림 묶음의 기기별 푸쉬 대상을 한 번에 조회하고, 전송한 알림만 알림 완료로 표시한다")
+    void findPushTargets_markNotified_묶음_단위_처리() {
+        // given
+        User user = persistUser("user");
+        tem.persist(Mobile.builder().userId(user.getId()).type(MobileType.ANDROID).clientId("android").build());
+        tem.persist(Mobile.builder().userId(user.getId()).type(MobileType.IOS).clientId("ios").build());
+        TimeAlarm sent = persistAlarm(user, "sent", LocalTime.of(9, 30));
+        TimeAlarm failed = persistAlarm(user, "failed", LocalTime.of(9, 40));
+        persistAlarm(user, "later", LocalTime.of(11, 0));
+        tem.flush();
+        tem.clear();
+
+        // when
+        List<Long> alarmIds = jpaTimeAlarmRepository.findPushEnabledAlarmIdsAfter(FROM, TO, 0L, PageRequest.of(0, 10));
+        List<TimeAlarmPushTargetProjection> targets = jpaTimeAlarmRepository.findPushTargets(alarmIds);
+        int updated = jpaTimeAlarmRepository.markNotified(List.of(sent.getId()));
+
+        // then
+        Assertions.assertThat(alarmIds).containsExactly(sent.getId(), failed.getId());
+        Assertions.assertThat(targets)
+                .extracting(TimeAlarmPushTargetProjection::getAlarmId,
+                        TimeAlarmPushTargetProjection::getClientId,
+                        TimeAlarmPushTargetProjection::getContent)
+                .containsExactlyInAnyOrder(
+                        Tuple.tuple(sent.getId(), "android", "sent"),
+                        Tuple.tuple(sent.getId(), "ios", "sent"),
+                        Tuple.tuple(failed.getId(), "android", "failed"),
+                        Tuple.tuple(failed.getId(), "ios", "failed"));
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(jpaTimeAlarmRepository.findPushEnabledAlarmIdsAfter(FROM, TO, 0L, PageRequest.of(0, 10)))
+                .containsExactly(failed.getId());
+    }
+}
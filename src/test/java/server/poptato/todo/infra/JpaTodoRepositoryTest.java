@@ -0,0 +1,227 @@
+package server.poptato.todo.infra;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import server.poptato.configuration.DatabaseTestConfig;
+import server.poptato.todo.application.response.HistoryResponseDto;
+import server.poptato.todo.domain.entity.CompletedDateTime;
+import server.poptato.todo.domain.entity.Routine;
+import server.poptato.todo.domain.entity.Todo;
+import server.poptato.todo.domain.projection.HistoryProjection;
+import server.poptato.todo.domain.value.OrderRank;
+import server.poptato.todo.domain.value.TodayStatus;
+import server.poptato.todo.domain.value.Type;
+import server.poptato.todo.infra.repository.JpaTodoRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class JpaTodoRepositoryTest extends DatabaseTestConfig {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 10);
+
+    @Autowired
+    private JpaTodoRepository jpaTodoRepository;
+
+    private Todo persistCompletedTodo(String content, LocalDateTime... completedDateTimes) {
+        return persistTodoWithCompletions(Todo.builder()
+                .userId(USER_ID)
+                .content(content)
+                .type(Type.TODAY)
+                .todayDate(DATE)
+                .todayStatus(TodayStatus.COMPLETED)
+                .build(), completedDateTimes);
+    }
+
+    private Todo persistTodoWithCompletions(Todo todo, LocalDateTime... completedDateTimes) {
+        tem.persist(todo);
+        for (LocalDateTime completedDateTime : completedDateTimes) {
+            tem.persist(CompletedDateTime.builder()
+                    .todoId(todo.getId())
+                    .dateTime(completedDateTime)
+                    .build());
+        }
+        tem.flush();
+        tem.clear();
+        return todo;
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-001][TC-REP-TODO-001] 하루에 여러 번 달성한 할 일도 히스토리에 한 번만 조회된다")
+    void findHistories_중복_달성_한번만_조회() {
+        // given
+        Todo repeated = persistCompletedTodo("repeated", DATE.atTime(9, 0), DATE.atTime(21, 0));
+        Todo single = persistCompletedTodo("single", DATE.atTime(12, 0));
+
+        // when
+        Page<Todo> histories = jpaTodoRepository.findHistories(
+                USER_ID, DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(), PageRequest.of(0, 10));
+
+        // then
+        Assertions.assertThat(histories.getTotalElements()).isEqualTo(2);
+        Assertions.assertThat(histories.getContent())
+                .extracting(Todo::getId)
+                .containsExactly(repeated.getId(), single.getId());
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-002][TC-REP-TODO-002] 달성 후 백로그로 돌아간 반복 할 일도 지난 날짜 히스토리에 달성으로 조회된다")
+    void findHistoriesByCursor_백로그로_돌아간_반복_할일_달성() {
+        // given
+        Todo repeat = persistTodoWithCompletions(Todo.builder()
+                .userId(USER_ID)
+                .content("repeat")
+                .type(Type.BACKLOG)
+                .isRepeat(true)
+                .backlogOrder(0)
+                .build(), DATE.atTime(9, 0));
+
+        // when
+        Slice<HistoryProjection> histories = jpaTodoRepository.findHistoriesByCursor(
+                USER_ID, DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(),
+                DATE.atStartOfDay(), 0L, PageRequest.of(0, 10));
+
+        // then
+        Assertions.assertThat(histories.getContent())
+                .extracting(HistoryResponseDto::from)
+                .extracting(HistoryResponseDto::todoId, HistoryResponseDto::isCompleted)
+                .containsExactly(Assertions.tuple(repeat.getId(), true));
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-002][TC-REP-TODO-003] 하루에 여러 번 달성한 할 일도 커서 히스토리에 한 번만, 첫 완료 시각 기준으로 조회된다")
+    void findHistoriesByCursor_중복_달성_한번만_조회() {
+        // given
+        Todo repeated = persistCompletedTodo("repeated", DATE.atTime(9, 0), DATE.atTime(21, 0));
+        Todo single = persistCompletedTodo("single", DATE.atTime(12, 0));
+
+        // when
+        Slice<HistoryProjection> first = jpaTodoRepository.findHistoriesByCursor(
+                USER_ID, DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(),
+                DATE.atStartOfDay(), 0L, PageRequest.of(0, 1));
+        HistoryProjection last = first.getContent().get(0);
+        Slice<HistoryProjection> next = jpaTodoRepository.findHistoriesByCursor(
+                USER_ID, DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(),
+                last.getCompletedDateTime(), last.getTodoId(), PageRequest.of(0, 10));
+
+        // then
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(last.getTodoId()).isEqualTo(repeated.getId());
+        Assertions.assertThat(last.getCompletedDateTime()).isEqualTo(DATE.atTime(9, 0));
+        Assertions.assertThat(next.getContent())
+                .extracting(HistoryProjection::getTodoId)
+                .containsExactly(single.getId());
+        Assertions.assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-003][TC-REP-TODO-004] 하루 마감으로 쌓일 backlog_order 가 범위 끝을 넘는 사용자만 조회된다")
+    void findUserIdsWithoutRolloverRoom_범위끝_사용자() {
+        // given
+        Long crowdedUserId = 2L;
+        Long normalUserId = 3L;
+        for (Long userId : List.of(crowdedUserId, normalUserId)) {
+            tem.persist(Todo.builder().userId(userId).content("today").type(Type.TODAY)
+                    .todayDate(DATE).todayStatus(TodayStatus.INCOMPLETE).todayOrder(0).build());
+        }
+        tem.persist(Todo.createBacklog(crowdedUserId, "top", OrderRank.MAX_UNCROWDED_ORDER - 10));
+        tem.persist(Todo.createBacklog(normalUserId, "top", 2048));
+        tem.flush();
+        tem.clear();
+
+        // when
+        List<Long> userIds = jpaTodoRepository.findUserIdsWithoutRolloverRoom(
+                List.of(crowdedUserId, normalUserId), OrderRank.GAP, OrderRank.MAX_UNCROWDED_ORDER);
+
+        // then
+        Assertions.assertThat(userIds).containsExactly(crowdedUserId);
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-003][TC-REP-TODO-005] 오늘로 올라갈 today_order 가 범위 끝을 넘는 사용자만 조회된다")
+    void findUserIdsWithoutPromotionRoom_범위끝_사용자() {
+        // given
+        Long crowdedUserId = 2L;
+        Long normalUserId = 3L;
+        for (Long userId : List.of(crowdedUserId, normalUserId)) {
+            tem.persist(Todo.builder().userId(userId).content("due").type(Type.BACKLOG)
+                    .deadline(DATE).backlogOrder(0).build());
+        }
+        tem.persist(Todo.builder().userId(crowdedUserId).content("today").type(Type.TODAY)
+                .todayDate(DATE).todayStatus(TodayStatus.INCOMPLETE).todayOrder(Integer.MAX_VALUE - 1).build());
+        tem.persist(Todo.builder().userId(normalUserId).content("today").type(Type.TODAY)
+                .todayDate(DATE).todayStatus(TodayStatus.INCOMPLETE).todayOrder(2048).build());
+        tem.flush();
+        tem.clear();
+
+        // when
+        List<Long> userIds = jpaTodoRepository.findUserIdsWithoutPromotionRoom(
+                List.of(crowdedUserId, normalUserId), DATE, "월", OrderRank.GAP, OrderRank.MAX_UNCROWDED_ORDER);
+
+        // then
+        Assertions.assertThat(userIds).containsExactly(crowdedUserId);
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-002][TC-REP-TODO-006] 오늘 히스토리 커서는 미완료 할 일부터 todayOrder 순으로 각 할 일을 한 번씩 이어서 조회한다")
+    void findTodaysByCursor_미완료_완료_순_커서_페이징() {
+        // given
+        Todo lowIncomplete = persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("low").type(Type.TODAY)
+                .todayDate(DATE).todayStatus(TodayStatus.INCOMPLETE).todayOrder(1024).build());
+        Todo highIncomplete = persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("high").type(Type.TODAY)
+                .todayDate(DATE).todayStatus(TodayStatus.INCOMPLETE).todayOrder(2048).build());
+        Todo completed = persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("completed").type(Type.TODAY)
+                .todayDate(DATE).todayStatus(TodayStatus.COMPLETED).todayOrder(4096).build(),
+                DATE.atTime(9, 0), DATE.atTime(21, 0));
+
+        // when
+        Slice<Todo> first = jpaTodoRepository.findTodaysByCursor(USER_ID, DATE,
+                DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(),
+                TodayStatus.INCOMPLETE, Integer.MAX_VALUE, 0L, PageRequest.of(0, 2));
+        Todo last = first.getContent().get(first.getNumberOfElements() - 1);
+        Slice<Todo> second = jpaTodoRepository.findTodaysByCursor(USER_ID, DATE,
+                DATE.atStartOfDay(), DATE.plusDays(1).atStartOfDay(),
+                last.getTodayStatus(), last.getTodayOrder(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        Assertions.assertThat(first.getContent())
+                .extracting(Todo::getId)
+                .containsExactly(highIncomplete.getId(), lowIncomplete.getId());
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(second.getContent())
+                .extracting(Todo::getId)
+                .containsExactly(completed.getId());
+        Assertions.assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("[SCN-REP-TODO-002][TC-REP-TODO-007] 미래 날짜 히스토리 커서는 마감 할 일과 요일 반복 할 일을 id 순으로 이어서 조회한다")
+    void findFuturePlanTodosByCursor_id_커서_페이징() {
+        // given
+        Todo due = persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("due").type(Type.BACKLOG)
+                .deadline(DATE).backlogOrder(0).build());
+        Todo routine = persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("routine").type(Type.BACKLOG)
+                .isRoutine(true).backlogOrder(1024).build());
+        tem.persist(Routine.builder().todoId(routine.getId()).day("월").build());
+        persistTodoWithCompletions(Todo.builder().userId(USER_ID).content("other").type(Type.BACKLOG)
+                .backlogOrder(2048).build());
+
+        // when
+        Slice<Todo> first = jpaTodoRepository.findFuturePlanTodosByCursor(USER_ID, DATE, "월", 0L, PageRequest.of(0, 1));
+        Slice<Todo> second = jpaTodoRepository.findFuturePlanTodosByCursor(
+                USER_ID, DATE, "월", first.getContent().get(0).getId(), PageRequest.of(0, 1));
+
+        // then
+        Assertions.assertThat(first.getContent()).extracting(Todo::getId).containsExactly(due.getId());
+        Assertions.assertThat(first.hasNext()).isTrue();
+        Assertions.assertThat(second.getContent()).extracting(Todo::getId).containsExactly(routine.getId());
+        Assertions.assertThat(second.hasNext()).isFalse();
+    }
+}